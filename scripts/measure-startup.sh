@@ -0,0 +1,69 @@
+#!/usr/bin/env bash
+#
+# Measures startup time and time to first response of the packaged application in three launch modes:
+#   jar            - java -jar on the repackaged jar (the baseline)
+#   extracted-aot  - the extracted jar with the ahead-of-time processed context
+#   fast-startup   - the extracted jar with the ahead-of-time processed context and the class data sharing archive
+# Build first with: mvn -Pfast-startup package   (add -DnoSwagger to measure without springdoc)
+#
+# Usage: scripts/measure-startup.sh [runs]
+# Environment: PORT (18080), PROBE_PATH (/actuator/health), JAVA_OPTS, APP_ARGS (--country.holidays.offline=true)
+#
+set -euo pipefail
+
+runs=${1:-5}
+port=${PORT:-18080}
+probe_path=${PROBE_PATH:-/actuator/health}
+java_opts=${JAVA_OPTS:-}
+app_args=${APP_ARGS:---country.holidays.offline=true}
+
+root=$(cd "$(dirname "$0")/.." && pwd)
+jar="$root/target/HolidayApi-0.0.1-SNAPSHOT.jar"
+fast_dir="$root/target/fast-startup"
+log=$(mktemp)
+trap 'rm -f "$log"' EXIT
+
+if [[ ! -f "$fast_dir/application.jsa" ]]; then
+    echo "No class data sharing archive in $fast_dir, build with: mvn -Pfast-startup package" >&2
+    exit 1
+fi
+
+# Starts the application, waits for the first successful response and prints "<ms to first response> <startup seconds>".
+measure() {
+    local start elapsed pid started
+    start=$(date +%s%N)
+    # shellcheck disable=SC2086
+    java $java_opts "$@" --server.port="$port" $app_args > "$log" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "http://localhost:$port$probe_path"; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "Application exited during startup:" >&2
+            cat "$log" >&2
+            exit 1
+        fi
+        sleep 0.01
+    done
+    elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    started=$(grep -oE 'Started [A-Za-z]+ in [0-9.]+ seconds' "$log" | grep -oE '[0-9.]+' || echo '?')
+    echo "$elapsed $started"
+}
+
+# Prints the median of the numbers read from standard input.
+median() {
+    sort -n | awk '{ values[NR] = $1 } END { print (NR % 2) ? values[(NR + 1) / 2] : (values[NR / 2] + values[NR / 2 + 1]) / 2 }'
+}
+
+run_mode() {
+    local mode=$1 results
+    shift
+    results=$(for ((i = 1; i <= runs; i++)); do measure "$@"; done)
+    printf '%-14s first response %6s ms   started in %6s s\n' "$mode" \
+        "$(cut -d' ' -f1 <<< "$results" | median)" "$(cut -d' ' -f2 <<< "$results" | median)"
+}
+
+echo "Median of $runs runs, probing $probe_path"
+run_mode jar -jar "$jar"
+run_mode extracted-aot -Dspring.aot.enabled=true -jar "$fast_dir/HolidayApi-0.0.1-SNAPSHOT.jar"
+run_mode fast-startup -XX:SharedArchiveFile="$fast_dir/application.jsa" -Dspring.aot.enabled=true -jar "$fast_dir/HolidayApi-0.0.1-SNAPSHOT.jar"
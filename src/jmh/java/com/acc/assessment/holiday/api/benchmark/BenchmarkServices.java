@@ -0,0 +1,40 @@
+package com.acc.assessment.holiday.api.benchmark;
+
+import com.acc.assessment.holiday.api.cache.CountryHolidaysCache;
+import com.acc.assessment.holiday.api.metrics.HolidayMetrics;
+import com.acc.assessment.holiday.api.service.CountryHolidaysService;
+import com.acc.assessment.holiday.api.store.HolidaySnapshotStore;
+import com.acc.assessment.holiday.api.validation.SupportedCountries;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+/**
+ * Wires {@link CountryHolidaysService} with its default settings on top of {@link FixtureExternalAPIClientConfig},
+ * without starting a Spring context. Country validation is left disabled.
+ */
+final class BenchmarkServices {
+
+    private BenchmarkServices() {
+    }
+
+    static CountryHolidaysCache createCache() {
+        CountryHolidaysCache cache = new CountryHolidaysCache(1000, Duration.ofHours(6), Duration.ofHours(5), 2, Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(cache, "clientConfig", new FixtureExternalAPIClientConfig());
+        ReflectionTestUtils.setField(cache, "snapshotStore", new HolidaySnapshotStore());
+        return cache;
+    }
+
+    static CountryHolidaysService createService(CountryHolidaysCache cache) {
+        CountryHolidaysService service = new CountryHolidaysService();
+        ReflectionTestUtils.setField(service, "holidaysCache", cache);
+        ReflectionTestUtils.setField(service, "metrics", new HolidayMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(service, "supportedCountries", new SupportedCountries());
+        ReflectionTestUtils.setField(service, "fanOutConcurrency", 8);
+        ReflectionTestUtils.setField(service, "yearWalkConcurrency", 2);
+        ReflectionTestUtils.setField(service, "fanOutTimeout", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(service, "maxYearWalk", 5);
+        return service;
+    }
+}
@@ -0,0 +1,47 @@
+package com.acc.assessment.holiday.api.benchmark;
+
+import com.acc.assessment.holiday.api.fixture.HolidayFixtures;
+import com.acc.assessment.holiday.api.model.CountryHoliday;
+import com.acc.assessment.holiday.api.model.HolidayDataset;
+import com.acc.assessment.holiday.api.model.HolidayKey;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-holiday helpers of {@link CountryHoliday} and the one-time conversion into {@link HolidayDataset}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CountryHolidayBenchmark {
+
+    private CountryHoliday[] holidays;
+
+    private HolidayKey key;
+
+    @Setup
+    public void setUp() {
+        holidays = HolidayFixtures.load().holidays("DE", HolidayFixtures.LAST_FIXTURE_YEAR);
+        key = new HolidayKey("DE", HolidayFixtures.LAST_FIXTURE_YEAR);
+    }
+
+    @Benchmark
+    public void isWeekend(Blackhole blackhole) {
+        for (CountryHoliday holiday : holidays) blackhole.consume(holiday.isWeekend());
+    }
+
+    @Benchmark
+    public void isPublicHoliday(Blackhole blackhole) {
+        for (CountryHoliday holiday : holidays) blackhole.consume(holiday.isPublicHoliday());
+    }
+
+    @Benchmark
+    public HolidayDataset datasetOf() {
+        return HolidayDataset.of(key, holidays);
+    }
+}
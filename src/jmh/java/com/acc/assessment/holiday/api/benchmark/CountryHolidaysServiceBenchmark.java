@@ -0,0 +1,53 @@
+package com.acc.assessment.holiday.api.benchmark;
+
+import com.acc.assessment.holiday.api.cache.CountryHolidaysCache;
+import com.acc.assessment.holiday.api.model.CountryHoliday;
+import com.acc.assessment.holiday.api.service.CountryHolidaysService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Year;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the single-country service paths with warm caches, plus one cold path that reloads the dataset every time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CountryHolidaysServiceBenchmark {
+
+    private final int year = Year.now().getValue();
+
+    private CountryHolidaysCache cache;
+
+    private CountryHolidaysService service;
+
+    @Setup
+    public void setUp() {
+        cache = BenchmarkServices.createCache();
+        service = BenchmarkServices.createService(cache);
+        service.getLast3CountryHolidays("AT", year);
+        service.getCommonHolidays("US", "NL", year);
+    }
+
+    @Benchmark
+    public List<CountryHoliday> last3CountryHolidays() {
+        return service.getLast3CountryHolidays("AT", year);
+    }
+
+    @Benchmark
+    public Map<String, Map<String, String>> commonHolidays() {
+        return service.getCommonHolidays("US", "NL", year);
+    }
+
+    @Benchmark
+    public List<CountryHoliday> countryHolidaysCold() {
+        cache.invalidateAll();
+        return service.getCountryHolidays("DE", year);
+    }
+}
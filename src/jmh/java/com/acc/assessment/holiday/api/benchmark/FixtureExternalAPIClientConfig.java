@@ -0,0 +1,27 @@
+package com.acc.assessment.holiday.api.benchmark;
+
+import com.acc.assessment.holiday.api.client.ExternalAPIClientConfig;
+import com.acc.assessment.holiday.api.client.HolidayPayloadDecoder;
+import com.acc.assessment.holiday.api.fixture.HolidayFixtures;
+import com.acc.assessment.holiday.api.model.HolidayDataset;
+import com.acc.assessment.holiday.api.model.HolidayKey;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Serves recorded fixture data instead of calling the external API, decoded like a real response.
+ */
+public class FixtureExternalAPIClientConfig extends ExternalAPIClientConfig {
+
+    private final HolidayFixtures fixtures = HolidayFixtures.load();
+
+    private final HolidayPayloadDecoder decoder = new HolidayPayloadDecoder();
+
+    @Override
+    public Mono<HolidayDataset> fetchHolidayDataset(String countryCode, int year) {
+        return Mono.fromSupplier(() -> decoder.decode(new HolidayKey(countryCode, year),
+                new ByteArrayInputStream(fixtures.json(countryCode, year).getBytes(StandardCharsets.UTF_8)), true));
+    }
+}
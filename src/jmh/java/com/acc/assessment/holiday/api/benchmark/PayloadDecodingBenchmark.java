@@ -0,0 +1,57 @@
+package com.acc.assessment.holiday.api.benchmark;
+
+import com.acc.assessment.holiday.api.client.HolidayPayloadDecoder;
+import com.acc.assessment.holiday.api.fixture.HolidayFixtures;
+import com.acc.assessment.holiday.api.model.CountryHoliday;
+import com.acc.assessment.holiday.api.model.HolidayDataset;
+import com.acc.assessment.holiday.api.model.HolidayKey;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares binding an external API response to {@code CountryHoliday[]} and converting it with decoding it
+ * token by token into a {@link HolidayDataset}. Run with {@code -prof gc} to compare allocation per response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadDecodingBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private byte[] payload;
+
+    private HolidayKey key;
+
+    private HolidayPayloadDecoder decoder;
+
+    @Setup
+    public void setUp() {
+        payload = HolidayFixtures.load().json("DE", HolidayFixtures.LAST_FIXTURE_YEAR).getBytes(StandardCharsets.UTF_8);
+        key = new HolidayKey("DE", HolidayFixtures.LAST_FIXTURE_YEAR);
+        decoder = new HolidayPayloadDecoder();
+    }
+
+    @Benchmark
+    public HolidayDataset bindArray() throws IOException {
+        return HolidayDataset.of(key, objectMapper.readValue(payload, CountryHoliday[].class));
+    }
+
+    @Benchmark
+    public HolidayDataset decode() {
+        return decoder.decode(key, new ByteArrayInputStream(payload), false);
+    }
+
+    @Benchmark
+    public HolidayDataset decodeFullDetail() {
+        return decoder.decode(key, new ByteArrayInputStream(payload), true);
+    }
+}
@@ -0,0 +1,42 @@
+package com.acc.assessment.holiday.api.benchmark;
+
+import com.acc.assessment.holiday.api.fixture.HolidayFixtures;
+import com.acc.assessment.holiday.api.service.CountryHolidaysService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Year;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the multi-country public holiday count with warm caches for growing country lists.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PublicHolidaysBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int countryCount;
+
+    private final int year = Year.now().getValue();
+
+    private String[] countryCodes;
+
+    private CountryHolidaysService service;
+
+    @Setup
+    public void setUp() {
+        service = BenchmarkServices.createService(BenchmarkServices.createCache());
+        countryCodes = HolidayFixtures.COUNTRY_CODES.subList(0, countryCount).toArray(String[]::new);
+        service.getPublicHolidays(countryCodes, year);
+    }
+
+    @Benchmark
+    public Map<String, Integer> publicHolidays() {
+        return service.getPublicHolidays(countryCodes, year);
+    }
+}
@@ -0,0 +1,51 @@
+package com.acc.assessment.holiday.api.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects response latencies of one scenario and reports throughput and latency percentiles.
+ */
+class LatencyRecorder {
+
+    private final long[] latencies;
+    private final AtomicInteger count = new AtomicInteger();
+    private final AtomicInteger errors = new AtomicInteger();
+
+    LatencyRecorder(int capacity) {
+        this.latencies = new long[capacity];
+    }
+
+    void record(long latencyNanos, boolean success) {
+        int index = count.getAndIncrement();
+        if (index < latencies.length) latencies[index] = latencyNanos;
+        if (!success) errors.incrementAndGet();
+    }
+
+    /**
+     * Formats a report line for the scenario.
+     *
+     * @param name           The scenario name
+     * @param elapsedSeconds The wall-clock duration of the measurement
+     * @return The scenario name, request and error counts, throughput and p50/p99/p999/max latency in milliseconds
+     */
+    String report(String name, double elapsedSeconds) {
+        int size = Math.min(count.get(), latencies.length);
+        long[] sorted = Arrays.copyOf(latencies, size);
+        Arrays.sort(sorted);
+        return String.format("%-16s %8d %7d %10.1f %9.2f %9.2f %9.2f %9.2f",
+                name, size, errors.get(), size / elapsedSeconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999), percentile(sorted, 1.0));
+    }
+
+    static String header() {
+        return String.format("%-16s %8s %7s %10s %9s %9s %9s %9s",
+                "scenario", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) return Double.NaN;
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1_000_000.0;
+    }
+}
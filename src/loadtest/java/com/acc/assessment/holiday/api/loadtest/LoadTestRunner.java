@@ -0,0 +1,144 @@
+package com.acc.assessment.holiday.api.loadtest;
+
+import com.acc.assessment.holiday.api.HolidayApiApplication;
+import com.acc.assessment.holiday.api.fixture.HolidayFixtures;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * Starts the application against {@link StubHolidayApiServer} and drives each controller endpoint at a fixed
+ * arrival rate, reporting throughput and p50/p99/p999 latency. Latency is measured from the scheduled send time,
+ * so a slow server is not hidden by the load generator falling behind.
+ * <p>
+ * Settings are read from system properties:
+ * <ul>
+ *     <li>{@code loadtest.rate} - requests per second per scenario (default 200)</li>
+ *     <li>{@code loadtest.duration} - measured duration per scenario (default PT30S)</li>
+ *     <li>{@code loadtest.warmup} - unmeasured warm-up per scenario (default PT10S)</li>
+ *     <li>{@code loadtest.stub.latency} / {@code loadtest.stub.jitter} - injected upstream delay (default PT0.05S / PT0.02S)</li>
+ *     <li>{@code loadtest.stub.error-rate} - fraction of failing upstream calls (default 0)</li>
+ *     <li>{@code loadtest.cache} - {@code cold} to run with a holiday cache of size 0, so every request reaches the stub and
+ *     the numbers include its latency and errors, or {@code warm} to keep the cache, so datasets requested during warm-up
+ *     are served from it and the numbers mostly measure cache hits (default cold)</li>
+ *     <li>{@code loadtest.app.args} - extra application arguments, space separated</li>
+ * </ul>
+ */
+public class LoadTestRunner {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private final Random random = new Random(42);
+
+    private final List<String> countryCodes = HolidayFixtures.COUNTRY_CODES;
+
+    private final int year = Year.now().getValue();
+
+    public static void main(String[] args) throws Exception {
+        int rate = Integer.getInteger("loadtest.rate", 200);
+        Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT30S"));
+        Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+        Duration stubLatency = Duration.parse(System.getProperty("loadtest.stub.latency", "PT0.05S"));
+        Duration stubJitter = Duration.parse(System.getProperty("loadtest.stub.jitter", "PT0.02S"));
+        double stubErrorRate = Double.parseDouble(System.getProperty("loadtest.stub.error-rate", "0"));
+        String cache = System.getProperty("loadtest.cache", "cold");
+        if (!cache.equals("cold") && !cache.equals("warm"))
+            throw new IllegalArgumentException("loadtest.cache must be cold or warm: " + cache);
+
+        try (StubHolidayApiServer stub = new StubHolidayApiServer(stubLatency, stubJitter, stubErrorRate)) {
+            List<String> appArgs = new ArrayList<>(List.of("--server.port=0", "--country.holidays.api.url=" + stub.baseUrl()));
+            if (cache.equals("cold")) appArgs.add("--country.holidays.cache.max-size=0");
+            String extraArgs = System.getProperty("loadtest.app.args", "").trim();
+            if (!extraArgs.isEmpty()) appArgs.addAll(List.of(extraArgs.split("\\s+")));
+
+            try (ConfigurableApplicationContext context = SpringApplication.run(HolidayApiApplication.class, appArgs.toArray(String[]::new))) {
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                new LoadTestRunner().run(baseUrl, rate, warmup, duration, cache);
+            }
+        }
+        System.exit(0);
+    }
+
+    private void run(String baseUrl, int rate, Duration warmup, Duration duration, String cache) throws InterruptedException {
+        System.out.printf("rate=%d req/s, warmup=%s, duration=%s, cache=%s%n", rate, warmup, duration, cache);
+        List<String> report = new ArrayList<>();
+        report.add(LatencyRecorder.header());
+        for (Scenario scenario : scenarios()) {
+            drive(baseUrl, scenario, rate, warmup, null);
+            LatencyRecorder recorder = new LatencyRecorder((int) (rate * duration.toSeconds() + rate));
+            report.add(recorder.report(scenario.name(), drive(baseUrl, scenario, rate, duration, recorder)));
+        }
+        report.forEach(System.out::println);
+    }
+
+    private List<Scenario> scenarios() {
+        return List.of(
+                new Scenario("last3Holidays", random -> "/country/last3Holidays?countryCode=" + pick(random)),
+                new Scenario("publicHolidays", random -> {
+                    StringBuilder codes = new StringBuilder(pick(random));
+                    for (int i = 1; i < 10; i++) codes.append(',').append(pick(random));
+                    return "/country/publicHolidays?year=" + year + "&countryCodes=" + codes;
+                }),
+                new Scenario("commonHolidays", random -> {
+                    String countryCode1 = pick(random);
+                    String countryCode2 = pick(random);
+                    while (countryCode2.equals(countryCode1)) countryCode2 = pick(random);
+                    return "/countries/commonHolidays?year=" + year + "&countryCode1=" + countryCode1 + "&countryCode2=" + countryCode2;
+                }));
+    }
+
+    private String pick(Random random) {
+        return countryCodes.get(random.nextInt(countryCodes.size()));
+    }
+
+    /**
+     * Sends requests of one scenario at a fixed rate for the given duration and waits for all responses.
+     *
+     * @param baseUrl  The application URL
+     * @param scenario The endpoint to drive
+     * @param rate     The number of requests per second
+     * @param duration How long to send requests
+     * @param recorder The recorder for the latencies, or null to discard them during warm-up
+     * @return The elapsed time in seconds from the first scheduled request to the last response
+     */
+    private double drive(String baseUrl, Scenario scenario, int rate, Duration duration, LatencyRecorder recorder) throws InterruptedException {
+        long intervalNanos = 1_000_000_000L / rate;
+        long total = duration.toNanos() / intervalNanos;
+        List<CompletableFuture<?>> pending = new ArrayList<>();
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long scheduled = start + i * intervalNanos;
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) TimeUnit.NANOSECONDS.sleep(wait);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + scenario.path().apply(random)))
+                    .timeout(REQUEST_TIMEOUT).GET().build();
+            pending.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, error) -> {
+                        if (recorder != null)
+                            recorder.record(System.nanoTime() - scheduled, error == null && response.statusCode() == 200);
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+        return (System.nanoTime() - start) / 1_000_000_000.0;
+    }
+
+    private record Scenario(String name, Function<Random, String> path) {
+    }
+}
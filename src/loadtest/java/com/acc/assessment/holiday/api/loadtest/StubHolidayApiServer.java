@@ -0,0 +1,125 @@
+package com.acc.assessment.holiday.api.loadtest;
+
+import com.acc.assessment.holiday.api.fixture.HolidayFixtures;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A local stand-in for the nager.at {@code /publicholidays/{year}/{countryCode}} API serving recorded fixtures,
+ * with configurable injected latency and error rate. Its {@code /AvailableCountries} resource lists the load test's countries.
+ */
+public class StubHolidayApiServer implements AutoCloseable {
+
+    public static final String BASE_PATH = "/api/v3/publicholidays";
+
+    public static final String COUNTRIES_PATH = "/api/v3/AvailableCountries";
+
+    private final HolidayFixtures fixtures = HolidayFixtures.load();
+    private final Duration latency;
+    private final Duration jitter;
+    private final double errorRate;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpServer server;
+
+    /**
+     * Starts the stub on an ephemeral local port.
+     *
+     * @param latency   The delay added to every response
+     * @param jitter    The maximum random delay added on top of the latency
+     * @param errorRate The fraction of requests, from 0 to 1, answered with HTTP 500
+     * @throws IOException If the server cannot be started
+     */
+    public StubHolidayApiServer(Duration latency, Duration jitter, double errorRate) throws IOException {
+        this.latency = latency;
+        this.jitter = jitter;
+        this.errorRate = errorRate;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        this.server.createContext(BASE_PATH + "/", this::handle);
+        this.server.createContext(COUNTRIES_PATH, this::handleCountries);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    /**
+     * Returns the URL to configure as {@code country.holidays.api.url}.
+     *
+     * @return The base URL of the stub
+     */
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + BASE_PATH;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            sleep();
+            String[] segments = exchange.getRequestURI().getPath().substring(BASE_PATH.length() + 1).split("/");
+            if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+            int year;
+            try {
+                year = Integer.parseInt(segments[0]);
+            } catch (NumberFormatException e) {
+                exchange.sendResponseHeaders(400, -1);
+                return;
+            }
+            if (segments.length != 2 || year < 1975 || year > 2075) {
+                exchange.sendResponseHeaders(400, -1);
+                return;
+            }
+            byte[] body = fixtures.json(segments[1], year).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleCountries(HttpExchange exchange) throws IOException {
+        try {
+            StringBuilder json = new StringBuilder("[");
+            for (String countryCode : HolidayFixtures.COUNTRY_CODES) {
+                if (json.length() > 1) json.append(',');
+                json.append("{\"countryCode\":\"").append(countryCode).append("\",\"name\":\"").append(countryCode).append("\"}");
+            }
+            byte[] body = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void sleep() {
+        long delayNanos = latency.toNanos();
+        if (!jitter.isZero()) delayNanos += ThreadLocalRandom.current().nextLong(jitter.toNanos() + 1);
+        if (delayNanos <= 0) return;
+        try {
+            Thread.sleep(Duration.ofNanos(delayNanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
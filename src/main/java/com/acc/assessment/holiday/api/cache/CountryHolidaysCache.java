@@ -0,0 +1,238 @@
+package com.acc.assessment.holiday.api.cache;
+
+import com.acc.assessment.holiday.api.client.ExternalAPIClientConfig;
+import com.acc.assessment.holiday.api.exception.UpstreamUnavailableException;
+import com.acc.assessment.holiday.api.model.HolidayDataset;
+import com.acc.assessment.holiday.api.model.HolidayKey;
+import com.acc.assessment.holiday.api.store.HolidaySnapshotStore;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class CountryHolidaysCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CountryHolidaysCache.class);
+
+    @Autowired
+    private ExternalAPIClientConfig clientConfig;
+
+    @Autowired
+    private HolidaySnapshotStore snapshotStore;
+
+    @Value("${country.holidays.offline:false}")
+    private boolean offline;
+
+    private final AsyncCache<HolidayKey, HolidayDataset> cache;
+
+    private final Cache<HolidayKey, Miss> misses;
+
+    private final long refreshDueNanos;
+
+    private final RefreshRateLimiter refreshRateLimiter;
+
+    private final Set<HolidayKey> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final Cache<HolidayKey, AtomicLong> lastAccess;
+
+    public CountryHolidaysCache(@Value("${country.holidays.cache.max-size:1000}") long maxSize,
+                                @Value("${country.holidays.cache.current-year-ttl:PT6H}") Duration currentYearTtl,
+                                @Value("${country.holidays.cache.refresh-after:PT5H}") Duration refreshAfter,
+                                @Value("${country.holidays.refresh.max-per-second:2}") double refreshesPerSecond,
+                                @Value("${country.holidays.cache.negative-ttl:PT10M}") Duration negativeTtl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new YearBasedExpiry(currentYearTtl))
+                .buildAsync();
+        this.misses = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(negativeTtl)
+                .build();
+        this.lastAccess = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+        this.refreshDueNanos = currentYearTtl.minus(refreshAfter).toNanos();
+        this.refreshRateLimiter = new RefreshRateLimiter(refreshesPerSecond, (int) Math.ceil(refreshesPerSecond));
+    }
+
+    /**
+     * Warms the cache with the datasets of the snapshot store.
+     */
+    @PostConstruct
+    public void warmUp() {
+        for (HolidayDataset dataset : snapshotStore.getAll()) cache.put(dataset.key(), CompletableFuture.completedFuture(dataset));
+    }
+
+    /**
+     * Returns the holidays of a country in a year, loading them from the external API on a miss.
+     * Concurrent misses for the same key subscribe to a single upstream call and share its result.
+     * Failed or empty loads are not cached. In offline mode, or when the external API is unreachable or its circuit breaker is open,
+     * datasets are served from the snapshot store instead.
+     * <p>
+     * Current and future years are served stale-while-revalidate: once an entry is older than
+     * {@code country.holidays.cache.refresh-after}, it keeps being served while a background refresh replaces it.
+     * <p>
+     * Empty, 400 and 404 responses are remembered for {@code country.holidays.cache.negative-ttl} and replayed without calling the external API.
+     *
+     * @param countryCode The country code (e.g., "US", "AT", "NL")
+     * @param year        The year for which to retrieve the holidays (e.g., 2025)
+     * @return A {@code Mono} emitting the holiday dataset, or completing empty if the external API returned no data
+     */
+    public Mono<HolidayDataset> get(String countryCode, int year) {
+        return Mono.defer(() -> {
+            HolidayKey key = new HolidayKey(countryCode, year);
+            Miss miss = misses.getIfPresent(key);
+            if (miss != null && cache.getIfPresent(key) == null)
+                return miss.error() == null ? Mono.empty() : Mono.error(miss.error());
+            CompletableFuture<HolidayDataset> future = cache.get(key, (k, executor) -> load(k).toFuture());
+            if (key.year() >= Year.now().getValue()) {
+                lastAccess.get(key, k -> new AtomicLong()).set(System.nanoTime());
+                if (future.isDone() && isRefreshDue(key)) refresh(key);
+            }
+            return Mono.fromFuture(future, true);
+        });
+    }
+
+    /**
+     * Returns a cached dataset without loading it.
+     *
+     * @param key The country and year of the dataset
+     * @return The dataset, or null if it is not cached or still loading
+     */
+    public HolidayDataset getIfPresent(HolidayKey key) {
+        CompletableFuture<HolidayDataset> future = cache.getIfPresent(key);
+        return future != null && future.isDone() && !future.isCompletedExceptionally() ? future.getNow(null) : null;
+    }
+
+    /**
+     * Returns the cached current and future year keys that were requested within the given window.
+     * Keys requested less recently are forgotten; at most {@code country.holidays.cache.max-size} keys are tracked.
+     *
+     * @param window How recently a key must have been requested to count as hot
+     * @return The hot keys
+     */
+    public List<HolidayKey> hotKeys(Duration window) {
+        long threshold = System.nanoTime() - window.toNanos();
+        List<HolidayKey> hotKeys = new ArrayList<>();
+        lastAccess.asMap().entrySet().removeIf(entry -> entry.getValue().get() - threshold < 0 || cache.getIfPresent(entry.getKey()) == null);
+        lastAccess.asMap().forEach((key, accessed) -> hotKeys.add(key));
+        return hotKeys;
+    }
+
+    /**
+     * Checks if a cached entry is old enough to be refreshed.
+     *
+     * @param key The country and year of the dataset
+     * @return true if the entry expires within {@code current-year-ttl - refresh-after}
+     */
+    public boolean isRefreshDue(HolidayKey key) {
+        return cache.synchronous().policy().expireVariably()
+                .map(policy -> policy.getExpiresAfter(key, TimeUnit.NANOSECONDS))
+                .map(remaining -> remaining.isPresent() && remaining.getAsLong() <= refreshDueNanos)
+                .orElse(false);
+    }
+
+    /**
+     * Reloads a dataset in the background while the current entry keeps being served.
+     * Refreshes of the same key are not run concurrently, and refreshes beyond the configured rate are skipped.
+     * A failed refresh is logged and keeps the current entry.
+     *
+     * @param key The country and year of the dataset
+     */
+    public void refresh(HolidayKey key) {
+        if (offline || !refreshing.add(key)) return;
+        if (!refreshRateLimiter.tryAcquire()) {
+            refreshing.remove(key);
+            return;
+        }
+        load(key).doFinally(signal -> refreshing.remove(key))
+                .subscribe(dataset -> cache.put(key, CompletableFuture.completedFuture(dataset)),
+                        e -> log.warn("Refresh of {} failed, serving the cached dataset: {}", key, e.toString()));
+    }
+
+    /**
+     * Loads a dataset in the background if it is not cached yet, within the refresh rate limit. A failed prefetch is logged.
+     *
+     * @param key The country and year of the dataset
+     */
+    public void prefetch(HolidayKey key) {
+        if (offline || cache.getIfPresent(key) != null || !refreshRateLimiter.tryAcquire()) return;
+        cache.get(key, (k, executor) -> load(k).toFuture()).whenComplete((dataset, e) -> {
+            if (e != null) log.warn("Prefetch of {} failed: {}", key, e.toString());
+        });
+    }
+
+    /**
+     * Discards all cached datasets.
+     */
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+        misses.invalidateAll();
+    }
+
+    private Mono<HolidayDataset> load(HolidayKey key) {
+        if (offline) return Mono.justOrEmpty(snapshotStore.get(key));
+        return clientConfig.fetchHolidayDataset(key.countryCode(), key.year())
+                .filter(dataset -> dataset.size() > 0)
+                .doOnSuccess(dataset -> {
+                    if (dataset == null) misses.put(key, new Miss(null));
+                    else snapshotStore.record(dataset);
+                })
+                .doOnError(WebClientResponseException.class, e -> {
+                    if (e.getStatusCode().value() == HttpStatus.NOT_FOUND.value() || e.getStatusCode().value() == HttpStatus.BAD_REQUEST.value())
+                        misses.put(key, new Miss(e));
+                })
+                .onErrorResume(e -> e instanceof WebClientRequestException || e instanceof UpstreamUnavailableException, e -> {
+                    HolidayDataset stored = snapshotStore.get(key);
+                    return stored != null ? Mono.just(stored) : Mono.error(e);
+                });
+    }
+
+    /**
+     * A response without holiday data: empty if {@code error} is null, otherwise the client error returned by the external API.
+     */
+    private record Miss(WebClientResponseException error) {
+    }
+
+    /**
+     * Keeps past years forever (their holidays never change) and expires the current and future years after a TTL.
+     */
+    private record YearBasedExpiry(Duration currentYearTtl) implements Expiry<HolidayKey, HolidayDataset> {
+
+        @Override
+        public long expireAfterCreate(HolidayKey key, HolidayDataset value, long currentTime) {
+            return key.year() < Year.now().getValue() ? Long.MAX_VALUE : currentYearTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(HolidayKey key, HolidayDataset value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(HolidayKey key, HolidayDataset value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
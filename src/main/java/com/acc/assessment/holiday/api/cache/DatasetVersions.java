@@ -0,0 +1,34 @@
+package com.acc.assessment.holiday.api.cache;
+
+import com.acc.assessment.holiday.api.model.HolidayDataset;
+import com.acc.assessment.holiday.api.model.HolidayKey;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the version of every dataset a request reads. Put an instance into the Reactor context under
+ * {@code DatasetVersions.class} and the service records into it while the request runs.
+ */
+public class DatasetVersions {
+
+    private final Map<HolidayKey, Long> versions = new ConcurrentHashMap<>();
+
+    /**
+     * Records that a dataset was read.
+     *
+     * @param dataset The dataset
+     */
+    public void record(HolidayDataset dataset) {
+        versions.put(dataset.key(), dataset.version());
+    }
+
+    /**
+     * Returns the recorded datasets.
+     *
+     * @return The version of each dataset read
+     */
+    public Map<HolidayKey, Long> versions() {
+        return Map.copyOf(versions);
+    }
+}
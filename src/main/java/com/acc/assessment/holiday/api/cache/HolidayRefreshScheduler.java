@@ -0,0 +1,69 @@
+package com.acc.assessment.holiday.api.cache;
+
+import com.acc.assessment.holiday.api.model.HolidayDataset;
+import com.acc.assessment.holiday.api.model.HolidayKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.MonthDay;
+
+/**
+ * Keeps frequently requested datasets fresh and loads datasets that are about to be requested.
+ * All upstream calls made here share the refresh rate limit of {@link CountryHolidaysCache}.
+ */
+@Component
+@ConditionalOnProperty(value = "country.holidays.refresh.enabled", havingValue = "true", matchIfMissing = true)
+public class HolidayRefreshScheduler {
+
+    private static final int LAST_HOLIDAYS_COUNT = 3;
+
+    @Autowired
+    private CountryHolidaysCache holidaysCache;
+
+    @Value("${country.holidays.refresh.hot-window:PT1H}")
+    private Duration hotWindow;
+
+    @Value("${country.holidays.prefetch.next-year-from:--12-15}")
+    private MonthDay nextYearFrom;
+
+    /**
+     * Refreshes the hot entries that are due for a refresh, then prefetches the next year of hot countries late in the year
+     * and the previous year of hot countries that have not had 3 holidays yet this year.
+     */
+    @Scheduled(fixedDelayString = "${country.holidays.refresh.interval:PT1M}")
+    public void refreshAndPrefetch() {
+        refreshAndPrefetch(LocalDate.now());
+    }
+
+    /**
+     * Refreshes and prefetches as of the given date.
+     *
+     * @param today The current date
+     */
+    public void refreshAndPrefetch(LocalDate today) {
+        boolean prefetchNextYear = !MonthDay.from(today).isBefore(nextYearFrom);
+        for (HolidayKey key : holidaysCache.hotKeys(hotWindow)) {
+            if (holidaysCache.isRefreshDue(key)) holidaysCache.refresh(key);
+            if (key.year() != today.getYear()) continue;
+            if (prefetchNextYear) holidaysCache.prefetch(new HolidayKey(key.countryCode(), key.year() + 1));
+            if (walksBack(holidaysCache.getIfPresent(key), today))
+                holidaysCache.prefetch(new HolidayKey(key.countryCode(), key.year() - 1));
+        }
+    }
+
+    /**
+     * Checks if looking up the last holidays of a country today needs the previous year.
+     *
+     * @param dataset The current year dataset of the country, or null if it is not cached
+     * @param today   The current date
+     * @return true if the dataset has fewer than 3 holidays before today
+     */
+    private boolean walksBack(HolidayDataset dataset, LocalDate today) {
+        return dataset != null && dataset.firstOnOrAfter((int) today.toEpochDay()) < LAST_HOLIDAYS_COUNT;
+    }
+}
@@ -0,0 +1,173 @@
+package com.acc.assessment.holiday.api.cache;
+
+import com.acc.assessment.holiday.api.model.HolidayDataset;
+import com.acc.assessment.holiday.api.model.HolidayKey;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Year;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Caches serialized JSON responses together with the versions of the datasets they were computed from.
+ * A cached response is served as long as all of those datasets still have the same version, skipping both the
+ * service logic and Jackson. Every response carries a strong ETag derived from the request and the dataset versions,
+ * so conditional GETs are answered with 304, and a {@code Cache-Control} header with a long max-age when only past
+ * years were read.
+ */
+@Component
+public class HttpResponseCache {
+
+    @Autowired
+    private CountryHolidaysCache holidaysCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${country.holidays.http.max-age:PT5M}")
+    private Duration maxAge;
+
+    @Value("${country.holidays.http.past-years-max-age:P365D}")
+    private Duration pastYearsMaxAge;
+
+    private final Cache<String, CachedResponse> responses;
+
+    public HttpResponseCache(@Value("${country.holidays.http.response-cache.max-bytes:33554432}") long maxBytes) {
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .<String, CachedResponse>weigher((requestKey, response) -> requestKey.length() * 2 + response.body().length)
+                .build();
+    }
+
+    /**
+     * Builds the cache key of a request from its endpoint and parameters, ignoring the case of country codes.
+     *
+     * @param endpoint   The endpoint name (e.g., "publicHolidays")
+     * @param parameters The request parameters; arrays are listed in order
+     * @return The cache key
+     */
+    public static String requestKey(String endpoint, Object... parameters) {
+        StringBuilder key = new StringBuilder(endpoint);
+        for (Object parameter : parameters) {
+            key.append('|');
+            key.append(parameter instanceof Object[] values ? Arrays.toString(values) : String.valueOf(parameter));
+        }
+        return key.toString().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Responds with the cached body of a request if its datasets are unchanged, otherwise runs the request, serializes its
+     * result and caches it. Spring answers the returned entity with 304 when the request's If-None-Match matches its ETag.
+     * <p>
+     * The entity is declared with the result type of the request, so the API documentation shows the schema of the result,
+     * while its body is the serialized JSON, which Spring writes unchanged with the byte array message converter.
+     *
+     * @param requestKey The cache key of the request, see {@link #requestKey(String, Object...)}
+     * @param request    Runs the request
+     * @param <T>        The result type of the request
+     * @return A {@code Mono} emitting the JSON response with ETag and Cache-Control headers
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<ResponseEntity<T>> respond(String requestKey, Supplier<Mono<T>> request) {
+        return Mono.defer(() -> {
+            CachedResponse cached = responses.getIfPresent(requestKey);
+            if (cached != null && isCurrent(cached)) return Mono.just(cached);
+            return compute(requestKey, request);
+        }).map(response -> (ResponseEntity<T>) toResponseEntity(response));
+    }
+
+    /**
+     * Runs a request while recording the datasets it reads, then serializes and caches its result.
+     *
+     * @param requestKey The cache key of the request
+     * @param request    Runs the request
+     * @return A {@code Mono} emitting the cached response
+     */
+    private Mono<CachedResponse> compute(String requestKey, Supplier<? extends Mono<?>> request) {
+        DatasetVersions datasetVersions = new DatasetVersions();
+        return request.get()
+                .contextWrite(context -> context.put(DatasetVersions.class, datasetVersions))
+                .map(result -> {
+                    Map<HolidayKey, Long> versions = datasetVersions.versions();
+                    CachedResponse response = new CachedResponse(serialize(result), etag(requestKey, versions), versions, isPastYearsOnly(versions));
+                    responses.put(requestKey, response);
+                    return response;
+                });
+    }
+
+    /**
+     * Checks if all datasets a cached response was computed from are still cached with the same version.
+     * Only the datasets already in the cache are looked at, so checking a response never fetches from the external API;
+     * a dataset that was evicted or is still loading makes the response stale.
+     *
+     * @param cached The cached response
+     * @return true if the response is still current
+     */
+    private boolean isCurrent(CachedResponse cached) {
+        for (Map.Entry<HolidayKey, Long> entry : cached.versions().entrySet()) {
+            HolidayDataset dataset = holidaysCache.getIfPresent(entry.getKey());
+            if (dataset == null || dataset.version() != entry.getValue()) return false;
+        }
+        return true;
+    }
+
+    private byte[] serialize(Object result) {
+        try {
+            return objectMapper.writeValueAsBytes(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response", e);
+        }
+    }
+
+    /**
+     * Derives a strong ETag from the request and the versions of the datasets it read, with a 64-bit FNV-1a hash.
+     *
+     * @param requestKey The cache key of the request
+     * @param versions   The version of each dataset read
+     * @return The ETag value without quotes
+     */
+    private static String etag(String requestKey, Map<HolidayKey, Long> versions) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < requestKey.length(); i++) hash = (hash ^ requestKey.charAt(i)) * 0x100000001b3L;
+        for (Map.Entry<HolidayKey, Long> entry : versions.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(HolidayKey::countryCode).thenComparingInt(HolidayKey::year))).toList()) {
+            hash = (hash ^ entry.getKey().hashCode()) * 0x100000001b3L;
+            hash = (hash ^ entry.getValue()) * 0x100000001b3L;
+        }
+        return Long.toHexString(hash);
+    }
+
+    private static boolean isPastYearsOnly(Map<HolidayKey, Long> versions) {
+        int currentYear = Year.now().getValue();
+        return !versions.isEmpty() && versions.keySet().stream().allMatch(key -> key.year() < currentYear);
+    }
+
+    private ResponseEntity<?> toResponseEntity(CachedResponse response) {
+        CacheControl cacheControl = CacheControl.maxAge(response.pastYearsOnly() ? pastYearsMaxAge : maxAge).cachePublic();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(response.etag())
+                .cacheControl(cacheControl)
+                .body(response.body());
+    }
+
+    /**
+     * A serialized response and the versions of the datasets it was computed from.
+     */
+    private record CachedResponse(byte[] body, String etag, Map<HolidayKey, Long> versions, boolean pastYearsOnly) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.acc.assessment.holiday.api.cache;
+
+/**
+ * A token bucket limiting how often background refreshes and prefetches may call the external API.
+ */
+public class RefreshRateLimiter {
+
+    private final double permitsPerNano;
+    private final double burst;
+
+    private double tokens;
+    private long lastRefill = System.nanoTime();
+
+    /**
+     * Creates a full token bucket.
+     *
+     * @param permitsPerSecond The sustained number of permits per second
+     * @param burst            The maximum number of permits that can be taken at once
+     */
+    public RefreshRateLimiter(double permitsPerSecond, int burst) {
+        this.permitsPerNano = permitsPerSecond / 1_000_000_000.0;
+        this.burst = Math.max(1, burst);
+        this.tokens = this.burst;
+    }
+
+    /**
+     * Takes a permit if one is available, without waiting.
+     *
+     * @return true if a permit was taken
+     */
+    public synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefill) * permitsPerNano);
+        lastRefill = now;
+        if (tokens < 1) return false;
+        tokens--;
+        return true;
+    }
+}
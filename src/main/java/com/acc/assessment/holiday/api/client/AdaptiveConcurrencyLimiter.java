@@ -0,0 +1,188 @@
+package com.acc.assessment.holiday.api.client;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * An AIMD concurrency limit for calls to the external API, with a bounded queue of waiting callers.
+ * <p>
+ * Each call that completes within {@code latencyThreshold} while the limit was at least half used raises the limit
+ * by {@code 1 / limit}, i.e. by one per limit's worth of calls. A slower call or a dropped one (timeout, transient failure)
+ * multiplies it by {@code backoffRatio}. The limit stays between {@code minLimit} and {@code maxLimit}.
+ * Callers above the limit wait in FIFO order; once {@code queueSize} callers wait, further callers are rejected.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    public enum Admission {
+        ACQUIRED, QUEUED, REJECTED
+    }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final int queueSize;
+    private final ArrayDeque<Runnable> waiters = new ArrayDeque<>();
+
+    private double limit;
+    private int inFlight;
+
+    /**
+     * Creates a limiter with no calls in flight.
+     *
+     * @param initialLimit     The number of concurrent calls allowed at first
+     * @param minLimit         The lowest limit the backoff may reach, at least 1
+     * @param maxLimit         The highest limit the increase may reach
+     * @param latencyThreshold The call latency above which the limit is decreased
+     * @param backoffRatio     The factor, between 0 and 1, applied to the limit on a decrease
+     * @param queueSize        The number of callers that may wait for a permit
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold, double backoffRatio, int queueSize) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.queueSize = queueSize;
+        this.limit = Math.clamp(initialLimit, this.minLimit, this.maxLimit);
+    }
+
+    /**
+     * Acquires a permit without blocking. A granted permit must be returned with {@link #onSuccess(long)},
+     * {@link #onDropped()} or {@link #onIgnored()}; a cancelled subscription gives it back by itself.
+     *
+     * @param maxWait    How long to wait in the queue for a permit
+     * @param onRejected Creates the error signalled when the queue is full or the wait times out
+     * @return A {@code Mono} emitting the {@link System#nanoTime()} at which the permit was granted
+     */
+    public Mono<Long> acquire(Duration maxWait, Supplier<? extends Throwable> onRejected) {
+        return Mono.<Long>create(sink -> {
+            Waiter waiter = new Waiter(sink);
+            sink.onCancel(waiter::cancel);
+            switch (tryAcquire(waiter)) {
+                case ACQUIRED -> waiter.run();
+                case QUEUED -> {
+                }
+                case REJECTED -> sink.error(onRejected.get());
+            }
+        }).timeout(maxWait, Mono.error(onRejected));
+    }
+
+    /**
+     * Takes a permit if one is free and nobody is waiting, otherwise queues the callback if the queue has room.
+     *
+     * @param onPermit Called, outside the lock, once a permit is handed to a queued caller
+     * @return Whether the permit was taken, the callback was queued or the call must be rejected
+     */
+    public synchronized Admission tryAcquire(Runnable onPermit) {
+        if (inFlight < (int) limit && waiters.isEmpty()) {
+            inFlight++;
+            return Admission.ACQUIRED;
+        }
+        if (waiters.size() >= queueSize) return Admission.REJECTED;
+        waiters.add(onPermit);
+        return Admission.QUEUED;
+    }
+
+    /**
+     * Removes a queued callback.
+     *
+     * @param onPermit The callback given to {@link #tryAcquire(Runnable)}
+     * @return true if it was still queued, false if it was handed a permit already
+     */
+    public synchronized boolean cancel(Runnable onPermit) {
+        return waiters.remove(onPermit);
+    }
+
+    /**
+     * Returns the permit of a completed call, adjusting the limit to its latency.
+     *
+     * @param latencyNanos The call latency
+     */
+    public void onSuccess(long latencyNanos) {
+        release(latencyNanos <= latencyThresholdNanos ? 1 : -1);
+    }
+
+    /**
+     * Returns the permit of a call that timed out or failed transiently, decreasing the limit.
+     */
+    public void onDropped() {
+        release(-1);
+    }
+
+    /**
+     * Returns a permit without adjusting the limit, e.g. for a cancelled call.
+     */
+    public void onIgnored() {
+        release(0);
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getQueued() {
+        return waiters.size();
+    }
+
+    /**
+     * Returns a permit, adjusts the limit and hands the freed permits to waiting callers.
+     *
+     * @param signal Positive to increase the limit, negative to decrease it, zero to keep it
+     */
+    private void release(int signal) {
+        List<Runnable> granted = new ArrayList<>();
+        synchronized (this) {
+            if (signal > 0 && inFlight * 2 >= limit) limit = Math.min(maxLimit, limit + 1 / limit);
+            else if (signal < 0) limit = Math.max(minLimit, limit * backoffRatio);
+            inFlight--;
+            while (inFlight < (int) limit && !waiters.isEmpty()) {
+                inFlight++;
+                granted.add(waiters.poll());
+            }
+        }
+        for (Runnable waiter : granted) waiter.run();
+    }
+
+    /**
+     * A caller of {@link #acquire(Duration, Supplier)}. Exactly one of granting and cancelling wins,
+     * so a permit handed to a caller that has already gone is given back rather than lost.
+     */
+    private final class Waiter implements Runnable {
+
+        private static final int PENDING = 0;
+        private static final int GRANTED = 1;
+        private static final int CANCELLED = 2;
+
+        private final MonoSink<Long> sink;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        private Waiter(MonoSink<Long> sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public void run() {
+            if (state.compareAndSet(PENDING, GRANTED)) sink.success(System.nanoTime());
+            else onIgnored();
+        }
+
+        /**
+         * Leaves the queue, or gives the permit back if it was granted but not delivered.
+         */
+        private void cancel() {
+            if (state.compareAndSet(PENDING, CANCELLED)) AdaptiveConcurrencyLimiter.this.cancel(this);
+            else if (state.get() == GRANTED) onIgnored();
+        }
+    }
+}
@@ -1,9 +1,33 @@
 package com.acc.assessment.holiday.api.client;
 
+import com.acc.assessment.holiday.api.exception.UpstreamOverloadedException;
+import com.acc.assessment.holiday.api.exception.UpstreamUnavailableException;
+import com.acc.assessment.holiday.api.metrics.HolidayMetrics;
+import com.acc.assessment.holiday.api.model.AvailableCountry;
 import com.acc.assessment.holiday.api.model.CountryHoliday;
+import com.acc.assessment.holiday.api.model.HolidayDataset;
+import com.acc.assessment.holiday.api.model.HolidayKey;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
 
 @Configuration
 public class ExternalAPIClientConfig {
@@ -11,24 +35,249 @@ public class ExternalAPIClientConfig {
     @Value("${country.holidays.api.url}")
     private String url;
 
+    @Value("${country.holidays.api.countries-url:}")
+    private String countriesUrl;
+
+    @Value("${country.holidays.api.connect-timeout:PT2S}")
+    private Duration connectTimeout;
+
+    @Value("${country.holidays.api.response-timeout:PT3S}")
+    private Duration responseTimeout;
+
+    @Value("${country.holidays.api.pool.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${country.holidays.api.pool.pending-acquire-max-count:500}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${country.holidays.api.pool.pending-acquire-timeout:PT5S}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${country.holidays.api.pool.max-idle-time:PT30S}")
+    private Duration maxIdleTime;
+
+    @Value("${country.holidays.api.pool.max-life-time:PT5M}")
+    private Duration maxLifeTime;
+
+    @Value("${country.holidays.api.retry.max-retries:2}")
+    private int maxRetries;
+
+    @Value("${country.holidays.api.retry.min-backoff:PT0.1S}")
+    private Duration minBackoff;
+
+    @Value("${country.holidays.api.retry.max-backoff:PT1S}")
+    private Duration maxBackoff;
+
+    @Value("${country.holidays.api.circuit-breaker.failure-rate-threshold:50}")
+    private int failureRateThreshold;
+
+    @Value("${country.holidays.api.circuit-breaker.sliding-window-size:20}")
+    private int slidingWindowSize;
+
+    @Value("${country.holidays.api.circuit-breaker.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${country.holidays.api.circuit-breaker.open-duration:PT30S}")
+    private Duration openDuration;
+
+    @Value("${country.holidays.api.limiter.initial-limit:20}")
+    private int initialLimit;
+
+    @Value("${country.holidays.api.limiter.min-limit:2}")
+    private int minLimit;
+
+    @Value("${country.holidays.api.limiter.max-limit:50}")
+    private int maxLimit;
+
+    @Value("${country.holidays.api.limiter.latency-threshold:PT0.5S}")
+    private Duration latencyThreshold;
+
+    @Value("${country.holidays.api.limiter.backoff-ratio:0.9}")
+    private double backoffRatio;
+
+    @Value("${country.holidays.api.limiter.queue-size:100}")
+    private int queueSize;
+
+    @Value("${country.holidays.api.limiter.max-wait:PT0.5S}")
+    private Duration maxWait;
+
+    @Value("${country.holidays.api.limiter.retry-after:PT1S}")
+    private Duration retryAfter;
+
+    @Value("${country.holidays.decoder.max-payload-size:262144}")
+    private int maxPayloadSize;
+
+    @Autowired
+    private HolidayMetrics metrics;
+
+    private HolidayPayloadDecoder decoder;
+
+    private ConnectionProvider connectionProvider;
+
+    private WebClient webClient;
+
+    private UpstreamCircuitBreaker circuitBreaker;
+
+    private AdaptiveConcurrencyLimiter limiter;
+
     /**
-     * Creates and returns an instance of {@code WebClient}.
+     * Creates the long-lived {@code WebClient} with a pooled, keep-alive connection provider and explicit timeouts,
+     * the circuit breaker and concurrency limiter guarding it and the response decoder.
+     */
+    @PostConstruct
+    public void init() {
+        connectionProvider = ConnectionProvider.builder("holiday-api")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(maxIdleTime)
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(responseTimeout);
+        webClient = WebClient.builder().baseUrl(url).clientConnector(new ReactorClientHttpConnector(httpClient)).build();
+        if (countriesUrl.isBlank()) countriesUrl = URI.create(url).resolve("AvailableCountries").toString();
+        circuitBreaker = new UpstreamCircuitBreaker(failureRateThreshold, slidingWindowSize, minimumCalls, openDuration);
+        limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, latencyThreshold, backoffRatio, queueSize);
+        metrics.registerLimiter(limiter);
+        decoder = new HolidayPayloadDecoder();
+    }
+
+    /**
+     * Releases the pooled connections.
+     */
+    @PreDestroy
+    public void close() {
+        if (connectionProvider != null) connectionProvider.dispose();
+    }
+
+    /**
+     * Returns the shared instance of {@code WebClient}.
      *
      * @return A configured {@code WebClient} instance for making web requests.
      */
     private WebClient getWebClient() {
-        return WebClient.builder().baseUrl(url).build();
+        return webClient;
     }
 
     /**
-     * Retrieves an array of holidays for a given country and year.
+     * Retrieves an array of holidays for a given country and year, blocking until the response arrives.
      *
      * @param countryCode The code representing the country (e.g., "US" for the United States).
      * @param year        The year for which holidays are to be retrieved.
      * @return An array of {@code CountryHoliday} objects representing the holidays in the specified country and year.
      */
     public CountryHoliday[] getCountryHolidays(String countryCode, int year) {
-        return getWebClient().get().uri("/{year}/{countryCode}", year, countryCode).retrieve().bodyToMono(CountryHoliday[].class).block();
+        return fetchCountryHolidays(countryCode, year).block();
+    }
+
+    /**
+     * Retrieves an array of holidays for a given country and year without blocking.
+     *
+     * @param countryCode The code representing the country (e.g., "US" for the United States).
+     * @param year        The year for which holidays are to be retrieved.
+     * @return A {@code Mono} emitting the holidays in the specified country and year.
+     */
+    public Mono<CountryHoliday[]> fetchCountryHolidays(String countryCode, int year) {
+        return fetchHolidayDataset(countryCode, year).map(dataset -> dataset.toCountryHolidays().toArray(new CountryHoliday[0]));
+    }
+
+    /**
+     * Retrieves the holidays for a given country and year without blocking, decoded straight into a {@link HolidayDataset}.
+     * All fields are kept, as the cached dataset also serves the endpoints returning full holiday details.
+     * Transient failures are retried with jittered exponential backoff; while the circuit breaker is open the call
+     * fails fast with {@link UpstreamUnavailableException}. Each attempt holds a permit of the concurrency limiter;
+     * if none frees up within {@code country.holidays.api.limiter.max-wait} the call fails with {@link UpstreamOverloadedException}.
+     * The call is timed by outcome and its response size is recorded.
+     *
+     * @param countryCode The code representing the country (e.g., "US" for the United States).
+     * @param year        The year for which holidays are to be retrieved.
+     * @return A {@code Mono} emitting the holidays in the specified country and year, or completing empty if the response has no body.
+     */
+    public Mono<HolidayDataset> fetchHolidayDataset(String countryCode, int year) {
+        HolidayKey key = new HolidayKey(countryCode, year);
+        return metrics.timeUpstream(withCircuitBreaker(withLimiter(DataBufferUtils.join(getWebClient().get().uri("/{year}/{countryCode}", year, countryCode).retrieve()
+                        .bodyToFlux(DataBuffer.class), maxPayloadSize)
+                .map(body -> {
+                    try {
+                        metrics.recordUpstreamPayload(body.readableByteCount());
+                        return decoder.decode(key, body.asInputStream(), true);
+                    } finally {
+                        DataBufferUtils.release(body);
+                    }
+                }))
+                .retryWhen(Retry.backoff(maxRetries, minBackoff)
+                        .maxBackoff(maxBackoff)
+                        .jitter(0.5)
+                        .filter(ExternalAPIClientConfig::isTransient)
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))));
+    }
+
+    /**
+     * Retrieves the countries supported by the external API without blocking, from {@code country.holidays.api.countries-url},
+     * which defaults to the AvailableCountries resource next to {@code country.holidays.api.url}.
+     * The call bypasses the circuit breaker and concurrency limiter, so a failed refresh does not count against holiday requests.
+     *
+     * @return A {@code Mono} emitting the supported countries with their codes and names.
+     */
+    public Mono<AvailableCountry[]> fetchAvailableCountries() {
+        return getWebClient().get().uri(countriesUrl).retrieve().bodyToMono(AvailableCountry[].class);
+    }
+
+    /**
+     * Guards an upstream call with the circuit breaker. Only transient failures count against the external API;
+     * rejected input (4xx) counts as a successful round trip and calls shed by the concurrency limiter count as neither.
+     *
+     * @param call The upstream call
+     * @return The guarded call
+     */
+    private <T> Mono<T> withCircuitBreaker(Mono<T> call) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquire())
+                return Mono.error(new UpstreamUnavailableException("External API is unavailable"));
+            return call
+                    .doOnSuccess(value -> circuitBreaker.onSuccess())
+                    .doOnError(e -> {
+                        if (isTransient(e)) circuitBreaker.onFailure();
+                        else if (e instanceof UpstreamOverloadedException) circuitBreaker.onIgnored();
+                        else circuitBreaker.onSuccess();
+                    })
+                    .doOnCancel(circuitBreaker::onIgnored);
+        });
+    }
+
+    /**
+     * Runs an upstream call under a permit of the concurrency limiter, feeding its latency back into the limit.
+     * Transient failures lower the limit; rejected input counts like any completed call.
+     *
+     * @param call The upstream call
+     * @return The limited call, failing with {@link UpstreamOverloadedException} if no permit is available in time
+     */
+    private <T> Mono<T> withLimiter(Mono<T> call) {
+        return Mono.usingWhen(limiter.acquire(maxWait, () -> new UpstreamOverloadedException("External API is overloaded", retryAfter)),
+                start -> call,
+                start -> Mono.fromRunnable(() -> limiter.onSuccess(System.nanoTime() - start)),
+                (start, e) -> Mono.fromRunnable(() -> {
+                    if (isTransient(e)) limiter.onDropped();
+                    else limiter.onSuccess(System.nanoTime() - start);
+                }),
+                start -> Mono.fromRunnable(limiter::onIgnored));
+    }
+
+    /**
+     * Checks if a failure may succeed when retried: connection errors, timeouts, 429 and 5xx responses.
+     *
+     * @param e The failure
+     * @return true if the failure is transient
+     */
+    private static boolean isTransient(Throwable e) {
+        if (e instanceof WebClientResponseException responseException)
+            return responseException.getStatusCode().is5xxServerError() || responseException.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,166 @@
+package com.acc.assessment.holiday.api.client;
+
+import com.acc.assessment.holiday.api.model.HolidayDataset;
+import com.acc.assessment.holiday.api.model.HolidayKey;
+import com.acc.assessment.holiday.api.model.HolidayType;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.core.codec.DecodingException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decodes the external API's holiday JSON token by token straight into a {@link HolidayDataset},
+ * without binding {@code CountryHoliday} objects or their arrays first.
+ * Type labels become bits of the type mask, and names are looked up in a shared pool so that the same name
+ * across countries and years is kept once. The fields only needed for full-detail responses
+ * (fixed, global, counties and launchYear) are skipped unless the caller asks for full detail.
+ */
+public class HolidayPayloadDecoder {
+
+    private static final int MAX_POOLED_STRINGS = 50_000;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    private final Map<String, String> stringPool = new ConcurrentHashMap<>();
+
+    /**
+     * Decodes a JSON array of holidays.
+     *
+     * @param key        The country and year of the holidays
+     * @param in         The response body
+     * @param fullDetail true to keep the fixed, global, counties and launchYear fields
+     * @return The dataset, empty if the array is empty
+     * @throws DecodingException If the body is not a JSON array of holidays with dates
+     */
+    public HolidayDataset decode(HolidayKey key, InputStream in, boolean fullDetail) {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) throw new DecodingException("Expected a JSON array of holidays");
+            HolidayDataset.Builder builder = HolidayDataset.builder(key, 16);
+            while (parser.nextToken() == JsonToken.START_OBJECT) readHoliday(parser, builder, fullDetail);
+            if (parser.currentToken() != JsonToken.END_ARRAY) throw new DecodingException("Expected a JSON object per holiday");
+            return builder.build();
+        } catch (IOException e) {
+            throw new DecodingException("Invalid holiday payload: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads the fields of one holiday object and adds it to the builder.
+     *
+     * @param parser     The parser, positioned on the start of the object
+     * @param builder    The builder receiving the holiday
+     * @param fullDetail true to keep the fixed, global, counties and launchYear fields
+     * @throws IOException If the object cannot be read
+     */
+    private void readHoliday(JsonParser parser, HolidayDataset.Builder builder, boolean fullDetail) throws IOException {
+        int epochDay = Integer.MIN_VALUE;
+        int typeMask = 0;
+        String localName = null;
+        String name = null;
+        Boolean fixed = null;
+        Boolean global = null;
+        String[] counties = null;
+        Integer launchYear = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "date" -> epochDay = readEpochDay(parser);
+                case "localName" -> localName = pooled(parser.getValueAsString());
+                case "name" -> name = pooled(parser.getValueAsString());
+                case "types" -> typeMask = readTypeMask(parser);
+                case "fixed" -> fixed = fullDetail && value != JsonToken.VALUE_NULL ? parser.getBooleanValue() : null;
+                case "global" -> global = fullDetail && value != JsonToken.VALUE_NULL ? parser.getBooleanValue() : null;
+                case "launchYear" -> launchYear = fullDetail && value != JsonToken.VALUE_NULL ? parser.getIntValue() : null;
+                case "counties" -> {
+                    if (fullDetail && value == JsonToken.START_ARRAY) counties = readStrings(parser);
+                    else parser.skipChildren();
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        if (epochDay == Integer.MIN_VALUE) throw new DecodingException("Holiday without date");
+        builder.add(epochDay, typeMask, localName, name, fixed, global, counties, launchYear);
+    }
+
+    /**
+     * Reads an ISO date (e.g., "2025-12-25") from the parser's character buffer without creating a string.
+     *
+     * @param parser The parser, positioned on the date value
+     * @return The date as a count of days since 1970-01-01
+     * @throws IOException If the value is not a date
+     */
+    private static int readEpochDay(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING) throw new DecodingException("Holiday date is not a string");
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        if (parser.getTextLength() != 10 || chars[offset + 4] != '-' || chars[offset + 7] != '-')
+            return (int) LocalDate.parse(parser.getText()).toEpochDay();
+        int year = digits(chars, offset, 4);
+        int month = digits(chars, offset + 5, 2);
+        int day = digits(chars, offset + 8, 2);
+        return (int) LocalDate.of(year, month, day).toEpochDay();
+    }
+
+    private static int digits(char[] chars, int offset, int length) {
+        int value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int digit = chars[i] - '0';
+            if (digit < 0 || digit > 9) throw new DecodingException("Invalid holiday date");
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Reads an array of type labels into a type mask. Unknown labels are ignored.
+     *
+     * @param parser The parser, positioned on the array or a null value
+     * @return The type mask
+     * @throws IOException If the array cannot be read
+     */
+    private static int readTypeMask(JsonParser parser) throws IOException {
+        int mask = 0;
+        if (parser.currentToken() != JsonToken.START_ARRAY) return mask;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            HolidayType type = HolidayType.fromLabel(parser.getValueAsString());
+            if (type != null) mask |= type.bit();
+        }
+        return mask;
+    }
+
+    /**
+     * Reads an array of strings, taking each value from the string pool.
+     *
+     * @param parser The parser, positioned on the start of the array
+     * @return The strings
+     * @throws IOException If the array cannot be read
+     */
+    private String[] readStrings(JsonParser parser) throws IOException {
+        List<String> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) values.add(pooled(parser.getValueAsString()));
+        return values.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the pooled instance of a string, adding it while the pool has room.
+     *
+     * @param value The string, may be null
+     * @return An equal string shared with earlier payloads
+     */
+    private String pooled(String value) {
+        if (value == null) return null;
+        String pooled = stringPool.get(value);
+        if (pooled != null) return pooled;
+        if (stringPool.size() < MAX_POOLED_STRINGS) stringPool.putIfAbsent(value, value);
+        return value;
+    }
+}
@@ -0,0 +1,121 @@
+package com.acc.assessment.holiday.api.client;
+
+import java.time.Duration;
+
+/**
+ * A count-based circuit breaker for calls to the external API.
+ * <p>
+ * While CLOSED, the outcomes of the last {@code windowSize} calls are kept; once at least {@code minimumCalls}
+ * were made and the failure rate reaches the threshold, the breaker OPENs and rejects calls for {@code openDuration}.
+ * It then lets a single trial call through (HALF_OPEN): success closes it again, failure re-opens it.
+ */
+public class UpstreamCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final boolean[] outcomes;
+
+    private State state = State.CLOSED;
+    private int recorded;
+    private int next;
+    private int failures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    /**
+     * Creates a closed circuit breaker.
+     *
+     * @param failureRateThreshold The failure percentage, from 1 to 100, at which the breaker opens
+     * @param windowSize           The number of most recent calls considered
+     * @param minimumCalls         The number of calls required before the failure rate is evaluated
+     * @param openDuration         How long the breaker rejects calls before allowing a trial call
+     */
+    public UpstreamCircuitBreaker(int failureRateThreshold, int windowSize, int minimumCalls, Duration openDuration) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.openDurationNanos = openDuration.toNanos();
+        this.outcomes = new boolean[windowSize];
+    }
+
+    /**
+     * Checks if a call may be made now. A permitted call must be followed by {@link #onSuccess()},
+     * {@link #onFailure()} or {@link #onIgnored()}.
+     *
+     * @return true if the call is permitted, false if it must fail fast
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openDurationNanos) state = State.HALF_OPEN;
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (trialInFlight) yield false;
+                trialInFlight = true;
+                yield true;
+            }
+        };
+    }
+
+    /**
+     * Records a successful call.
+     */
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            reset(State.CLOSED);
+            return;
+        }
+        record(false);
+    }
+
+    /**
+     * Records a failed call.
+     */
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (recorded >= minimumCalls && failures * 100 >= failureRateThreshold * recorded) open();
+    }
+
+    /**
+     * Releases a permit without recording an outcome, e.g. for a cancelled call.
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) trialInFlight = false;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == outcomes.length) {
+            if (outcomes[next]) failures--;
+        } else {
+            recorded++;
+        }
+        outcomes[next] = failure;
+        if (failure) failures++;
+        next = (next + 1) % outcomes.length;
+    }
+
+    private void open() {
+        reset(State.OPEN);
+        openedAt = System.nanoTime();
+    }
+
+    private void reset(State newState) {
+        state = newState;
+        recorded = 0;
+        next = 0;
+        failures = 0;
+        trialInFlight = false;
+    }
+}
@@ -1,35 +1,65 @@
 package com.acc.assessment.holiday.api.controller;
 
+import com.acc.assessment.holiday.api.cache.HttpResponseCache;
 import com.acc.assessment.holiday.api.exception.InvalidInputException;
+import com.acc.assessment.holiday.api.model.BatchQuery;
+import com.acc.assessment.holiday.api.model.BatchResult;
+import com.acc.assessment.holiday.api.model.BusinessDays;
 import com.acc.assessment.holiday.api.model.CountryHoliday;
+import com.acc.assessment.holiday.api.model.HolidayDataset;
 import com.acc.assessment.holiday.api.service.CountryHolidaysService;
 import com.acc.assessment.holiday.api.validation.Validation;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.common.util.StringUtils;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.Year;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @RestController
+@ConditionalOnProperty(name = "country.holidays.reactive.enabled", havingValue = "false", matchIfMissing = true)
 public class CountryHolidaysController {
 
     @Autowired
     CountryHolidaysService countryHolidaysService;
 
+    @Autowired
+    HttpResponseCache httpResponseCache;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Value("${country.holidays.export.timeout:PT30M}")
+    Duration exportTimeout;
+
     /**
      * Retrieves the last 3 public holidays for a specified country.
      *
      * @param countryCode The country code (e.g., "US", "NL") to fetch holidays for.
-     * @return A list of the last 3 holidays for the specified country.
+     * @return A JSON list of the last 3 holidays for the specified country, with ETag and Cache-Control headers.
      */
     @GetMapping("/country/last3Holidays")
-    public List<CountryHoliday> last3CountryHolidays(@RequestParam String countryCode) {
+    public ResponseEntity<List<CountryHoliday>> last3CountryHolidays(@RequestParam String countryCode) {
         if (StringUtils.isNotBlank(countryCode))
-            return countryHolidaysService.getLast3CountryHolidays(countryCode, Year.now().getValue());
+            return httpResponseCache.respond(HttpResponseCache.requestKey("last3Holidays", countryCode, LocalDate.now()),
+                    () -> countryHolidaysService.getLast3CountryHolidaysReactive(countryCode, Year.now().getValue())).block();
         throw new InvalidInputException("Invalid country code");
     }
 
@@ -38,12 +68,13 @@ public class CountryHolidaysController {
      *
      * @param year         The year to check holidays for.
      * @param countryCodes The array of country codes (e.g., "NL", "US").
-     * @return A map with the country code as the key and the holiday count as the value.
+     * @return A JSON map with the country code as the key and the holiday count as the value, with ETag and Cache-Control headers.
      */
     @GetMapping("/country/publicHolidays")
-    public Map<String, Integer> publicHolidays(@RequestParam int year, String[] countryCodes) {
+    public ResponseEntity<Map<String, Integer>> publicHolidays(@RequestParam int year, String[] countryCodes) {
         if (!Validation.isArrayNullOrEmpty(countryCodes))
-            return countryHolidaysService.getPublicHolidays(countryCodes, year);
+            return httpResponseCache.respond(HttpResponseCache.requestKey("publicHolidays", year, countryCodes),
+                    () -> countryHolidaysService.getPublicHolidaysReactive(countryCodes, year)).block();
         throw new InvalidInputException("Invalid request");
     }
 
@@ -53,12 +84,146 @@ public class CountryHolidaysController {
      * @param countryCode1 The first country code (e.g., "US").
      * @param countryCode2 The second country code (e.g., "NL").
      * @param year         The year to check holidays for.
-     * @return A map with holiday dates as key, and value is another map with country codes as keys and holiday local names as values.
+     * @return A JSON map with holiday dates as key, and value is another map with country codes as keys and holiday local names as values, with ETag and Cache-Control headers.
      */
     @GetMapping("/countries/commonHolidays")
-    public Map<String, Map<String, String>> commonHolidays(@RequestParam String countryCode1, String countryCode2, int year) {
-        if (StringUtils.isNotBlank(countryCode1) && StringUtils.isNotBlank(countryCode2) && !countryCode1.equalsIgnoreCase(countryCode2))
-            return countryHolidaysService.getCommonHolidays(countryCode1, countryCode2, year);
+    public ResponseEntity<Map<String, Map<String, String>>> commonHolidays(@RequestParam String countryCode1, String countryCode2, int year) {
+        if (Validation.isCommonHolidaysRequestValid(countryCode1, countryCode2))
+            return httpResponseCache.respond(HttpResponseCache.requestKey("commonHolidays", countryCode1, countryCode2, year),
+                    () -> countryHolidaysService.getCommonHolidaysReactive(countryCode1, countryCode2, year)).block();
         throw new InvalidInputException("Invalid country code parameters");
     }
+
+    /**
+     * Retrieves deduplicated holidays common to all given countries for a year or a range of years.
+     *
+     * @param countryCodes The array of country codes (e.g., "US", "NL", "AT"), at least two distinct and at most 50.
+     * @param year         The first year to check holidays for.
+     * @param toYear       The last year to check holidays for, inclusive, at most 10 years in total. Defaults to {@code year}.
+     * @return A JSON map with holiday dates as key in ascending order, and value is another map with country codes as keys and holiday local names as values, with ETag and Cache-Control headers.
+     */
+    @GetMapping("/countries/sharedHolidays")
+    public ResponseEntity<Map<String, Map<String, String>>> sharedHolidays(@RequestParam String[] countryCodes, @RequestParam int year, @RequestParam(required = false) Integer toYear) {
+        if (Validation.isSharedHolidaysRequestValid(countryCodes, year, toYear))
+            return httpResponseCache.respond(HttpResponseCache.requestKey("sharedHolidays", countryCodes, year, toYear),
+                    () -> countryHolidaysService.getCommonHolidaysReactive(countryCodes, year, toYear == null ? year : toYear)).block();
+        throw new InvalidInputException("Invalid request");
+    }
+
+    /**
+     * Retrieves the most recent holidays of a country before a date, most recent first.
+     *
+     * @param countryCode The country code (e.g., "US", "NL") to fetch holidays for.
+     * @param count       The number of holidays to return, from 1 to 100. Defaults to 3.
+     * @param date        The anchor date in ISO format (e.g., "2025-06-01"). Defaults to today.
+     * @return A JSON list of at most {@code count} holidays before the anchor date, with ETag and Cache-Control headers.
+     */
+    @GetMapping("/country/holidays/previous")
+    public ResponseEntity<List<CountryHoliday>> previousHolidays(@RequestParam String countryCode, @RequestParam(defaultValue = "3") int count,
+                                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        LocalDate anchor = date == null ? LocalDate.now() : date;
+        if (Validation.isHolidayListRequestValid(countryCode, count))
+            return httpResponseCache.respond(HttpResponseCache.requestKey("previousHolidays", countryCode, count, anchor),
+                    () -> countryHolidaysService.getPreviousHolidaysReactive(countryCode, anchor, count)).block();
+        throw new InvalidInputException("Invalid request");
+    }
+
+    /**
+     * Retrieves the upcoming holidays of a country from a date on, earliest first.
+     *
+     * @param countryCode The country code (e.g., "US", "NL") to fetch holidays for.
+     * @param count       The number of holidays to return, from 1 to 100. Defaults to 3.
+     * @param date        The anchor date in ISO format (e.g., "2025-06-01"). Defaults to today.
+     * @return A JSON list of at most {@code count} holidays on or after the anchor date, with ETag and Cache-Control headers.
+     */
+    @GetMapping("/country/holidays/next")
+    public ResponseEntity<List<CountryHoliday>> nextHolidays(@RequestParam String countryCode, @RequestParam(defaultValue = "3") int count,
+                                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        LocalDate anchor = date == null ? LocalDate.now() : date;
+        if (Validation.isHolidayListRequestValid(countryCode, count))
+            return httpResponseCache.respond(HttpResponseCache.requestKey("nextHolidays", countryCode, count, anchor),
+                    () -> countryHolidaysService.getNextHolidaysReactive(countryCode, anchor, count)).block();
+        throw new InvalidInputException("Invalid request");
+    }
+
+    /**
+     * Runs up to 100 last3Holidays, publicHolidays and commonHolidays queries at once.
+     * Each (country, year) dataset needed by the queries is fetched only once, and at most 500 distinct datasets may be needed.
+     *
+     * @param queries The queries to run.
+     * @return The result or error of each query, in request order.
+     */
+    @PostMapping("/countries/batch")
+    public List<BatchResult> batch(@RequestBody List<BatchQuery> queries) {
+        if (Validation.isBatchValid(queries))
+            return countryHolidaysService.getBatchResults(queries);
+        throw new InvalidInputException("Invalid request");
+    }
+
+    /**
+     * Adds business days to a date, skipping weekends and the public holidays of all given countries.
+     *
+     * @param countryCodes The array of country codes (e.g., "NL", "US").
+     * @param date         The start date in ISO format (e.g., "2025-06-01"), not counted itself.
+     * @param days         The number of business days to add, from -1000 to 1000; negative to go back in time.
+     * @return The start date, the resulting date and the number of business days added.
+     */
+    @GetMapping("/countries/businessDays/add")
+    public BusinessDays addBusinessDays(@RequestParam String[] countryCodes, @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                                 @RequestParam int days) {
+        if (Validation.isAddBusinessDaysRequestValid(countryCodes, days))
+            return countryHolidaysService.addBusinessDays(countryCodes, date, days);
+        throw new InvalidInputException("Invalid request");
+    }
+
+    /**
+     * Counts the business days between two dates, both included, skipping weekends and the public holidays of all given countries.
+     *
+     * @param countryCodes The array of country codes (e.g., "US", "AT").
+     * @param from         The first date in ISO format (e.g., "2025-01-01").
+     * @param to           The last date in ISO format (e.g., "2025-12-31"), at most 10 years after the first.
+     * @return The range and the number of business days in it.
+     */
+    @GetMapping("/countries/businessDays/count")
+    public BusinessDays countBusinessDays(@RequestParam String[] countryCodes, @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (Validation.isCountBusinessDaysRequestValid(countryCodes, from, to))
+            return countryHolidaysService.countBusinessDays(countryCodes, from, to);
+        throw new InvalidInputException("Invalid request");
+    }
+
+    /**
+     * Exports all holidays of several countries over a range of years as newline-delimited JSON, one holiday per line.
+     * Each dataset is written as soon as it arrives and the next upstream fetches wait for the client to read it.
+     * Countries and years without data are skipped. If the client goes away, the pending upstream fetches are cancelled.
+     * The response may take up to {@code country.holidays.export.timeout}, unlike other asynchronous requests.
+     *
+     * @param countryCodes The array of country codes (e.g., "NL", "US"), at most 250.
+     * @param fromYear     The first year to export.
+     * @param toYear       The last year to export, inclusive, at most 50 years after the first.
+     * @param request      The servlet request, whose asynchronous timeout is raised for the export.
+     * @return A streamed NDJSON response in country and then date order.
+     */
+    @GetMapping(value = "/countries/holidays/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportHolidays(@RequestParam String[] countryCodes, @RequestParam int fromYear, @RequestParam int toYear,
+                                                                HttpServletRequest request) {
+        if (Validation.isExportRequestValid(countryCodes, fromYear, toYear)) {
+            StreamingResponseBody body = outputStream -> {
+                if (request.isAsyncStarted()) request.getAsyncContext().setTimeout(exportTimeout.toMillis());
+                try (Stream<HolidayDataset> datasets = countryHolidaysService.exportHolidays(countryCodes, fromYear, toYear).toStream(1);
+                     JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                    generator.setRootValueSeparator(null);
+                    for (HolidayDataset dataset : (Iterable<HolidayDataset>) datasets::iterator) {
+                        for (int i = 0; i < dataset.size(); i++) {
+                            generator.writeObject(dataset.toCountryHoliday(i));
+                            generator.writeRaw('\n');
+                        }
+                        generator.flush();
+                    }
+                }
+            };
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+        }
+        throw new InvalidInputException("Invalid request");
+    }
 }
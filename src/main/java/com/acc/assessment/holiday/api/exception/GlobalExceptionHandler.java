@@ -1,6 +1,10 @@
 package com.acc.assessment.holiday.api.exception;
 
+import com.acc.assessment.holiday.api.metrics.HolidayMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
@@ -9,6 +13,9 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    @Autowired
+    private HolidayMetrics metrics;
+
     /**
      * Handles InvalidInputException and returns a structured error response.
      *
@@ -18,6 +25,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(value = InvalidInputException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public @ResponseBody ErrorResponse handleException(InvalidInputException invalidInputException) {
+        metrics.countError("invalid_input");
         return new ErrorResponse(HttpStatus.BAD_REQUEST.value(), invalidInputException.getMessage());
     }
 
@@ -30,6 +38,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(value = ExternalApiException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public @ResponseBody ErrorResponse handleException(ExternalApiException externalApiException) {
+        metrics.countError("external_api");
         return new ErrorResponse(HttpStatus.BAD_REQUEST.value(), externalApiException.getMessage());
     }
 
@@ -42,9 +51,37 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(value = NoDataException.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public @ResponseBody ErrorResponse handleException(NoDataException noDataException) {
+        metrics.countError("no_data");
         return new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR.value(), noDataException.getMessage());
     }
 
+    /**
+     * Handles UpstreamUnavailableException and returns a structured error response.
+     *
+     * @param upstreamUnavailableException The UpstreamUnavailableException that was thrown.
+     * @return An ErrorResponse object containing error details.
+     */
+    @ExceptionHandler(value = UpstreamUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public @ResponseBody ErrorResponse handleException(UpstreamUnavailableException upstreamUnavailableException) {
+        metrics.countError("upstream_unavailable");
+        return new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(), upstreamUnavailableException.getMessage());
+    }
+
+    /**
+     * Handles UpstreamOverloadedException and returns a structured error response telling the client when to retry.
+     *
+     * @param upstreamOverloadedException The UpstreamOverloadedException that was thrown.
+     * @return A 503 response with a Retry-After header and an ErrorResponse object containing error details.
+     */
+    @ExceptionHandler(value = UpstreamOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleException(UpstreamOverloadedException upstreamOverloadedException) {
+        metrics.countError("upstream_overloaded");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, upstreamOverloadedException.getRetryAfter().toSeconds())))
+                .body(new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(), upstreamOverloadedException.getMessage()));
+    }
+
     /**
      * Handles Exception and returns a structured error response.
      *
@@ -54,6 +91,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(value = Exception.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public @ResponseBody ErrorResponse handleException(Exception exception) {
+        metrics.countError("other");
         return new ErrorResponse(HttpStatus.BAD_REQUEST.value(), exception.getMessage());
     }
 }
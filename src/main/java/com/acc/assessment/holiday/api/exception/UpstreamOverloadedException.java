@@ -0,0 +1,17 @@
+package com.acc.assessment.holiday.api.exception;
+
+import java.time.Duration;
+
+public class UpstreamOverloadedException extends UpstreamUnavailableException {
+
+    private final Duration retryAfter;
+
+    public UpstreamOverloadedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
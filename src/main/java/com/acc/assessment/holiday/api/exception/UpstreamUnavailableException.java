@@ -0,0 +1,7 @@
+package com.acc.assessment.holiday.api.exception;
+
+public class UpstreamUnavailableException extends RuntimeException {
+    public UpstreamUnavailableException(String message) {
+        super(message);
+    }
+}
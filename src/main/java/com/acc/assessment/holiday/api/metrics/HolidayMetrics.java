@@ -0,0 +1,176 @@
+package com.acc.assessment.holiday.api.metrics;
+
+import com.acc.assessment.holiday.api.client.AdaptiveConcurrencyLimiter;
+import com.acc.assessment.holiday.api.exception.UpstreamOverloadedException;
+import com.acc.assessment.holiday.api.exception.UpstreamUnavailableException;
+import com.acc.assessment.holiday.api.model.HolidayDataset;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records upstream, service and error metrics under the {@code holiday.} prefix.
+ * Meters are registered up front or once per method so the hot path only looks them up;
+ * all of them can be switched off with {@code management.metrics.enable.holiday=false}.
+ */
+@Component
+public class HolidayMetrics {
+
+    private static final String[] COUNTRY_BUCKETS = {"1", "2-10", "11-50", "51+"};
+
+    public enum UpstreamOutcome {
+        SUCCESS, EMPTY, CLIENT_ERROR, SERVER_ERROR, UNREACHABLE, REJECTED, SHED, ERROR
+    }
+
+    private final MeterRegistry registry;
+    private final Timer[] upstreamTimers = new Timer[UpstreamOutcome.values().length];
+    private final DistributionSummary upstreamPayloadBytes;
+    private final DistributionSummary upstreamPayloadHolidays;
+    private final Map<String, Timer[]> serviceTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> errorCounters = new ConcurrentHashMap<>();
+
+    public HolidayMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (UpstreamOutcome outcome : UpstreamOutcome.values()) {
+            upstreamTimers[outcome.ordinal()] = Timer.builder("holiday.upstream.requests")
+                    .description("Calls to the external holiday API")
+                    .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+        this.upstreamPayloadBytes = DistributionSummary.builder("holiday.upstream.payload.size")
+                .description("Size of external holiday API responses")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.upstreamPayloadHolidays = DistributionSummary.builder("holiday.upstream.payload.holidays")
+                .description("Number of holidays per external holiday API response")
+                .register(registry);
+    }
+
+    /**
+     * Times an upstream call, tagging it with its outcome.
+     *
+     * @param call The upstream call emitting the decoded holidays
+     * @return The timed call
+     */
+    public Mono<HolidayDataset> timeUpstream(Mono<HolidayDataset> call) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return call
+                    .doOnSuccess(dataset -> {
+                        recordUpstream(dataset == null || dataset.size() == 0 ? UpstreamOutcome.EMPTY : UpstreamOutcome.SUCCESS, start);
+                        if (dataset != null) upstreamPayloadHolidays.record(dataset.size());
+                    })
+                    .doOnError(e -> recordUpstream(outcomeOf(e), start));
+        });
+    }
+
+    /**
+     * Registers gauges for the current limit, in-flight calls and waiting callers of the upstream concurrency limiter.
+     *
+     * @param limiter The limiter guarding the external API
+     */
+    public void registerLimiter(AdaptiveConcurrencyLimiter limiter) {
+        Gauge.builder("holiday.upstream.limiter.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current concurrency limit for external holiday API calls")
+                .register(registry);
+        Gauge.builder("holiday.upstream.limiter.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("External holiday API calls holding a permit")
+                .register(registry);
+        Gauge.builder("holiday.upstream.limiter.queued", limiter, AdaptiveConcurrencyLimiter::getQueued)
+                .description("Callers waiting for a permit to call the external holiday API")
+                .register(registry);
+    }
+
+    /**
+     * Records the size of an upstream response body.
+     *
+     * @param bytes The content length, ignored if unknown (negative)
+     */
+    public void recordUpstreamPayload(long bytes) {
+        if (bytes >= 0) upstreamPayloadBytes.record(bytes);
+    }
+
+    /**
+     * Times a service method, tagging it with the method name, the number of requested countries and the outcome.
+     *
+     * @param method       The service method name (e.g., "publicHolidays")
+     * @param countryCount The number of country codes in the request
+     * @param call         The service call
+     * @return The timed call
+     */
+    public <T> Mono<T> timeService(String method, int countryCount, Mono<T> call) {
+        Timer[] timers = serviceTimers.get(method);
+        if (timers == null) timers = serviceTimers.computeIfAbsent(method, this::createServiceTimers);
+        Timer success = timers[bucketOf(countryCount) * 2];
+        Timer error = timers[bucketOf(countryCount) * 2 + 1];
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return call
+                    .doOnSuccess(value -> success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                    .doOnError(e -> error.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    /**
+     * Counts an error response produced by the exception handler.
+     *
+     * @param type The error type (e.g., "invalid_input")
+     */
+    public void countError(String type) {
+        Counter counter = errorCounters.get(type);
+        if (counter == null) counter = errorCounters.computeIfAbsent(type, t -> Counter.builder("holiday.errors")
+                .description("Error responses by exception handler branch")
+                .tag("type", t)
+                .register(registry));
+        counter.increment();
+    }
+
+    private Timer[] createServiceTimers(String method) {
+        Timer[] timers = new Timer[COUNTRY_BUCKETS.length * 2];
+        for (int bucket = 0; bucket < COUNTRY_BUCKETS.length; bucket++) {
+            for (int outcome = 0; outcome < 2; outcome++) {
+                timers[bucket * 2 + outcome] = Timer.builder("holiday.service.requests")
+                        .description("Holiday service method calls")
+                        .tag("method", method)
+                        .tag("countries", COUNTRY_BUCKETS[bucket])
+                        .tag("outcome", outcome == 0 ? "success" : "error")
+                        .publishPercentileHistogram()
+                        .register(registry);
+            }
+        }
+        return timers;
+    }
+
+    private void recordUpstream(UpstreamOutcome outcome, long start) {
+        upstreamTimers[outcome.ordinal()].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private static UpstreamOutcome outcomeOf(Throwable e) {
+        if (e instanceof WebClientResponseException responseException)
+            return responseException.getStatusCode().is4xxClientError() ? UpstreamOutcome.CLIENT_ERROR : UpstreamOutcome.SERVER_ERROR;
+        if (e instanceof WebClientRequestException) return UpstreamOutcome.UNREACHABLE;
+        if (e instanceof UpstreamOverloadedException) return UpstreamOutcome.SHED;
+        if (e instanceof UpstreamUnavailableException) return UpstreamOutcome.REJECTED;
+        return UpstreamOutcome.ERROR;
+    }
+
+    private static int bucketOf(int countryCount) {
+        if (countryCount <= 1) return 0;
+        if (countryCount <= 10) return 1;
+        if (countryCount <= 50) return 2;
+        return 3;
+    }
+}
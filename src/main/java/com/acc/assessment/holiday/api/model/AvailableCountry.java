@@ -0,0 +1,7 @@
+package com.acc.assessment.holiday.api.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record AvailableCountry(String countryCode, String name) {
+}
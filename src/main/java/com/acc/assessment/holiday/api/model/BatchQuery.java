@@ -0,0 +1,39 @@
+package com.acc.assessment.holiday.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Year;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One query of a batch request. Only the fields used by the query type need to be set:
+ * <ul>
+ *     <li>{@code last3Holidays}: {@code countryCode}</li>
+ *     <li>{@code publicHolidays}: {@code countryCodes} and {@code year}</li>
+ *     <li>{@code commonHolidays}: {@code countryCode1}, {@code countryCode2} and {@code year}</li>
+ * </ul>
+ */
+public record BatchQuery(Type type, String countryCode, String[] countryCodes, String countryCode1, String countryCode2,
+                         Integer year) {
+
+    public enum Type {
+        @JsonProperty("last3Holidays") LAST3_HOLIDAYS,
+        @JsonProperty("publicHolidays") PUBLIC_HOLIDAYS,
+        @JsonProperty("commonHolidays") COMMON_HOLIDAYS
+    }
+
+    /**
+     * Lists the datasets a query needs to start with. Years a last3Holidays query may walk back to are not included.
+     * The query must be valid.
+     *
+     * @return The country and year of each dataset
+     */
+    public List<HolidayKey> datasetKeys() {
+        return switch (type) {
+            case LAST3_HOLIDAYS -> List.of(new HolidayKey(countryCode, Year.now().getValue()));
+            case PUBLIC_HOLIDAYS -> Arrays.stream(countryCodes).map(code -> new HolidayKey(code, year)).toList();
+            case COMMON_HOLIDAYS -> List.of(new HolidayKey(countryCode1, year), new HolidayKey(countryCode2, year));
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package com.acc.assessment.holiday.api.model;
+
+import com.acc.assessment.holiday.api.exception.ErrorResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * The outcome of one query of a batch request: either the same result the single-query endpoint returns, or its error.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchResult(Object result, ErrorResponse error) {
+
+    public static BatchResult of(Object result) {
+        return new BatchResult(result, null);
+    }
+
+    public static BatchResult failed(ErrorResponse error) {
+        return new BatchResult(null, error);
+    }
+}
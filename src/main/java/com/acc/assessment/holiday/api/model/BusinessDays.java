@@ -0,0 +1,14 @@
+package com.acc.assessment.holiday.api.model;
+
+import java.util.List;
+
+/**
+ * A business day calculation over the combined calendar of one or more countries.
+ *
+ * @param countryCodes The countries whose public holidays are not business days
+ * @param from         The start date in ISO format
+ * @param to           The end date in ISO format
+ * @param businessDays The number of business days between the dates
+ */
+public record BusinessDays(List<String> countryCodes, String from, String to, int businessDays) {
+}
@@ -5,7 +5,6 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.util.Arrays;
 
 @JsonInclude(JsonInclude.Include.NON_EMPTY)
 public record CountryHoliday(String date, String localName, String name, String countryCode, Boolean fixed,
@@ -32,7 +31,7 @@ public record CountryHoliday(String date, String localName, String name, String
      */
     @JsonIgnore
     public boolean isPublicHoliday() {
-        return !Arrays.stream(this.types()).filter(p -> p.equalsIgnoreCase("public")).toList().isEmpty();
+        return (HolidayType.mask(this.types()) & HolidayType.PUBLIC.bit()) != 0;
     }
 
     /**
@@ -42,6 +41,7 @@ public record CountryHoliday(String date, String localName, String name, String
      */
     @JsonIgnore
     public boolean isWeekend() {
-        return this.getLocalDate().getDayOfWeek() == DayOfWeek.SATURDAY || this.getLocalDate().getDayOfWeek() == DayOfWeek.SUNDAY;
+        DayOfWeek dayOfWeek = this.getLocalDate().getDayOfWeek();
+        return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
     }
 }
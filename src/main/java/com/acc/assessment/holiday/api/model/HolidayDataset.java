@@ -0,0 +1,368 @@
+package com.acc.assessment.holiday.api.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * All holidays of a country in a year in a compact, pre-parsed form built once when the data is loaded.
+ * Holidays are sorted by date and addressed by position; service filters and sorts run on the primitive arrays,
+ * and {@link CountryHoliday} instances are only produced for responses.
+ */
+public final class HolidayDataset {
+
+    private final HolidayKey key;
+    private final HolidayDateIndex dateIndex;
+    private final int[] epochDays;
+    private final byte[] daysOfWeek;
+    private final int[] typeMasks;
+    private final String[] localNames;
+    private final String[] names;
+    private final Boolean[] fixed;
+    private final Boolean[] global;
+    private final String[][] counties;
+    private final Integer[] launchYears;
+    private long version;
+    private volatile WorkingDayCalendar workingDayCalendar;
+
+    private HolidayDataset(HolidayKey key, int size) {
+        this.key = key;
+        this.dateIndex = HolidayDateIndex.empty();
+        this.epochDays = new int[size];
+        this.daysOfWeek = new byte[size];
+        this.typeMasks = new int[size];
+        this.localNames = new String[size];
+        this.names = new String[size];
+        this.fixed = new Boolean[size];
+        this.global = new Boolean[size];
+        this.counties = new String[size][];
+        this.launchYears = new Integer[size];
+    }
+
+    /**
+     * Builds a dataset from the holidays returned by the external API.
+     * Dates are parsed once, holidays are sorted by date and the country code is interned.
+     * Holidays outside the dataset's year are kept but not added to the date index.
+     *
+     * @param key      The country and year of the dataset
+     * @param holidays The holidays of the country in that year
+     * @return The dataset
+     */
+    public static HolidayDataset of(HolidayKey key, CountryHoliday[] holidays) {
+        Builder builder = builder(key, holidays.length);
+        for (CountryHoliday holiday : holidays) {
+            builder.add((int) holiday.getLocalDate().toEpochDay(), HolidayType.mask(holiday.types()), holiday.localName(), holiday.name(),
+                    holiday.fixed(), holiday.global(), holiday.counties(), holiday.launchYear());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Starts building a dataset from holidays added one at a time, e.g. while decoding a response.
+     *
+     * @param key              The country and year of the dataset
+     * @param expectedHolidays The initial capacity; the builder grows as needed
+     * @return The builder
+     */
+    public static Builder builder(HolidayKey key, int expectedHolidays) {
+        return new Builder(key, expectedHolidays);
+    }
+
+    private void set(int i, int epochDay, int typeMask, String localName, String name,
+                     Boolean fixed, Boolean global, String[] counties, Integer launchYear) {
+        this.epochDays[i] = epochDay;
+        this.daysOfWeek[i] = (byte) Math.floorMod(epochDay + 3, 7);
+        this.typeMasks[i] = typeMask;
+        this.localNames[i] = localName;
+        this.names[i] = name;
+        this.fixed[i] = fixed;
+        this.global[i] = global;
+        this.counties[i] = counties;
+        this.launchYears[i] = launchYear;
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        if (date.getYear() == key.year()) this.dateIndex.add(date.getDayOfYear());
+    }
+
+    public HolidayKey key() {
+        return key;
+    }
+
+    /**
+     * Returns a hash of all holiday fields, which changes whenever the upstream data of the dataset changes.
+     *
+     * @return The content version
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Returns the days of the year on which at least one holiday falls.
+     *
+     * @return The date index
+     */
+    public HolidayDateIndex dateIndex() {
+        return dateIndex;
+    }
+
+    /**
+     * Returns the number of holidays in the dataset.
+     *
+     * @return The number of holidays
+     */
+    public int size() {
+        return epochDays.length;
+    }
+
+    /**
+     * Returns the date of a holiday as a count of days since 1970-01-01.
+     *
+     * @param i The position of the holiday
+     * @return The epoch day
+     */
+    public int epochDay(int i) {
+        return epochDays[i];
+    }
+
+    /**
+     * Returns the day of the week of a holiday, from 0 (Monday) to 6 (Sunday).
+     *
+     * @param i The position of the holiday
+     * @return The day of the week
+     */
+    public int dayOfWeek(int i) {
+        return daysOfWeek[i];
+    }
+
+    /**
+     * Checks if a holiday falls on the weekend (Saturday or Sunday).
+     *
+     * @param i The position of the holiday
+     * @return true if the holiday falls on the weekend
+     */
+    public boolean isWeekend(int i) {
+        return daysOfWeek[i] >= 5;
+    }
+
+    /**
+     * Checks if a holiday has the given type.
+     *
+     * @param i    The position of the holiday
+     * @param type The type to check
+     * @return true if the holiday has the type
+     */
+    public boolean hasType(int i, HolidayType type) {
+        return (typeMasks[i] & type.bit()) != 0;
+    }
+
+    public String localName(int i) {
+        return localNames[i];
+    }
+
+    public String name(int i) {
+        return names[i];
+    }
+
+    /**
+     * Returns the date of a holiday in ISO format.
+     *
+     * @param i The position of the holiday
+     * @return The date (e.g., "2025-12-25")
+     */
+    public String date(int i) {
+        return LocalDate.ofEpochDay(epochDays[i]).toString();
+    }
+
+    /**
+     * Counts the public holidays which are not falling on weekends.
+     *
+     * @return The number of non-weekend public holidays
+     */
+    public int countNonWeekendPublicHolidays() {
+        int count = 0;
+        for (int i = 0; i < epochDays.length; i++) if (hasType(i, HolidayType.PUBLIC) && !isWeekend(i)) count++;
+        return count;
+    }
+
+    /**
+     * Returns the working days of the dataset's year in this country, built on first use.
+     *
+     * @return The working day calendar
+     */
+    public WorkingDayCalendar workingDayCalendar() {
+        WorkingDayCalendar calendar = workingDayCalendar;
+        if (calendar == null) workingDayCalendar = calendar = WorkingDayCalendar.of(this);
+        return calendar;
+    }
+
+    /**
+     * Finds the position of the first holiday on or after the given date using binary search.
+     *
+     * @param epochDay The date as a count of days since 1970-01-01
+     * @return The position of the first holiday on or after the date, or {@link #size()} if there is none
+     */
+    public int firstOnOrAfter(int epochDay) {
+        int low = 0;
+        int high = epochDays.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (epochDays[mid] < epochDay) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Returns the local holiday names on a day of the dataset's year.
+     *
+     * @param dayOfYear The day of the year, from 1 to 366
+     * @return The distinct local names joined with ", ", or null if no holiday falls on that day
+     */
+    public String localNameOn(int dayOfYear) {
+        int epochDay = (int) LocalDate.ofYearDay(key.year(), dayOfYear).toEpochDay();
+        String joined = null;
+        for (int i = firstOnOrAfter(epochDay); i < epochDays.length && epochDays[i] == epochDay; i++) {
+            String localName = localNames[i];
+            if (joined == null) joined = localName;
+            else if (localName != null && Arrays.stream(joined.split(", ")).noneMatch(localName::equalsIgnoreCase))
+                joined = joined + ", " + localName;
+        }
+        return joined;
+    }
+
+    /**
+     * Converts a holiday to its response representation.
+     *
+     * @param i The position of the holiday
+     * @return The holiday with all details
+     */
+    public CountryHoliday toCountryHoliday(int i) {
+        return new CountryHoliday(date(i), localNames[i], names[i], key.countryCode(), fixed[i], global[i],
+                counties[i], launchYears[i], HolidayType.labels(typeMasks[i]));
+    }
+
+    /**
+     * Converts all holidays to their response representation, in date order.
+     *
+     * @return The holidays with all details
+     */
+    public List<CountryHoliday> toCountryHolidays() {
+        List<CountryHoliday> holidays = new ArrayList<>(epochDays.length);
+        for (int i = 0; i < epochDays.length; i++) holidays.add(toCountryHoliday(i));
+        return holidays;
+    }
+
+    /**
+     * Computes a 64-bit FNV-1a hash over the holidays in date order.
+     *
+     * @return The content version
+     */
+    private long computeVersion() {
+        long hash = 0xcbf29ce484222325L;
+        hash = mix(hash, key.year());
+        for (int i = 0; i < epochDays.length; i++) {
+            hash = mix(hash, epochDays[i]);
+            hash = mix(hash, typeMasks[i]);
+            hash = mix(hash, Objects.hashCode(localNames[i]));
+            hash = mix(hash, Objects.hashCode(names[i]));
+            hash = mix(hash, Objects.hash(fixed[i], global[i], launchYears[i]));
+            hash = mix(hash, Arrays.hashCode(counties[i]));
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, int value) {
+        return (hash ^ value) * 0x100000001b3L;
+    }
+
+    /**
+     * Collects holidays in arrival order and builds the date-sorted dataset.
+     */
+    public static final class Builder {
+
+        private final HolidayKey key;
+        private int size;
+        private int[] epochDays;
+        private int[] typeMasks;
+        private String[] localNames;
+        private String[] names;
+        private Boolean[] fixed;
+        private Boolean[] global;
+        private String[][] counties;
+        private Integer[] launchYears;
+
+        private Builder(HolidayKey key, int capacity) {
+            this.key = key;
+            capacity = Math.max(capacity, 1);
+            this.epochDays = new int[capacity];
+            this.typeMasks = new int[capacity];
+            this.localNames = new String[capacity];
+            this.names = new String[capacity];
+            this.fixed = new Boolean[capacity];
+            this.global = new Boolean[capacity];
+            this.counties = new String[capacity][];
+            this.launchYears = new Integer[capacity];
+        }
+
+        /**
+         * Adds a holiday.
+         *
+         * @param epochDay   The date as a count of days since 1970-01-01
+         * @param typeMask   The types of the holiday, see {@link HolidayType#mask(String[])}
+         * @param localName  The name in the local language
+         * @param name       The English name
+         * @param fixed      Whether the holiday falls on the same date every year, may be null
+         * @param global     Whether the holiday applies to the whole country, may be null
+         * @param counties   The counties the holiday applies to, may be null
+         * @param launchYear The first year of the holiday, may be null
+         * @return This builder
+         */
+        public Builder add(int epochDay, int typeMask, String localName, String name,
+                           Boolean fixed, Boolean global, String[] counties, Integer launchYear) {
+            if (size == epochDays.length) grow();
+            this.epochDays[size] = epochDay;
+            this.typeMasks[size] = typeMask;
+            this.localNames[size] = localName;
+            this.names[size] = name;
+            this.fixed[size] = fixed;
+            this.global[size] = global;
+            this.counties[size] = counties;
+            this.launchYears[size] = launchYear;
+            size++;
+            return this;
+        }
+
+        /**
+         * Builds the dataset, sorting the holidays by date and interning the country code.
+         *
+         * @return The dataset
+         */
+        public HolidayDataset build() {
+            long[] order = new long[size];
+            for (int i = 0; i < size; i++) order[i] = (long) epochDays[i] << 32 | i;
+            Arrays.sort(order);
+
+            HolidayDataset dataset = new HolidayDataset(new HolidayKey(key.countryCode().intern(), key.year()), size);
+            for (int i = 0; i < size; i++) {
+                int j = (int) order[i];
+                dataset.set(i, epochDays[j], typeMasks[j], localNames[j], names[j], fixed[j], global[j], counties[j], launchYears[j]);
+            }
+            dataset.version = dataset.computeVersion();
+            return dataset;
+        }
+
+        private void grow() {
+            int capacity = epochDays.length * 2;
+            epochDays = Arrays.copyOf(epochDays, capacity);
+            typeMasks = Arrays.copyOf(typeMasks, capacity);
+            localNames = Arrays.copyOf(localNames, capacity);
+            names = Arrays.copyOf(names, capacity);
+            fixed = Arrays.copyOf(fixed, capacity);
+            global = Arrays.copyOf(global, capacity);
+            counties = Arrays.copyOf(counties, capacity);
+            launchYears = Arrays.copyOf(launchYears, capacity);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.acc.assessment.holiday.api.model;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A compact set of the days of one year, stored as 366 bits so that intersections are a word-wise AND.
+ * Bit {@code n} represents day-of-year {@code n + 1}.
+ */
+public final class HolidayDateIndex {
+
+    private static final int WORDS = 6;
+
+    private final long[] words;
+
+    private HolidayDateIndex(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Creates an empty index.
+     *
+     * @return An index containing no days
+     */
+    public static HolidayDateIndex empty() {
+        return new HolidayDateIndex(new long[WORDS]);
+    }
+
+    /**
+     * Intersects several indexes.
+     *
+     * @param indexes The indexes to intersect, at least one
+     * @return A new index containing the days present in every given index
+     */
+    public static HolidayDateIndex intersect(Iterable<HolidayDateIndex> indexes) {
+        long[] result = new long[WORDS];
+        Arrays.fill(result, -1L);
+        for (HolidayDateIndex index : indexes) {
+            for (int i = 0; i < WORDS; i++) result[i] &= index.words[i];
+        }
+        return new HolidayDateIndex(result);
+    }
+
+    /**
+     * Unites several indexes.
+     *
+     * @param indexes The indexes to unite
+     * @return A new index containing the days present in any given index
+     */
+    public static HolidayDateIndex union(Iterable<HolidayDateIndex> indexes) {
+        long[] result = new long[WORDS];
+        for (HolidayDateIndex index : indexes) {
+            for (int i = 0; i < WORDS; i++) result[i] |= index.words[i];
+        }
+        return new HolidayDateIndex(result);
+    }
+
+    /**
+     * Adds a day to the index.
+     *
+     * @param dayOfYear The day of the year, from 1 to 366
+     */
+    public void add(int dayOfYear) {
+        int bit = dayOfYear - 1;
+        words[bit >>> 6] |= 1L << bit;
+    }
+
+    /**
+     * Checks if a day is present in the index.
+     *
+     * @param dayOfYear The day of the year, from 1 to 366
+     * @return true if the day is present
+     */
+    public boolean contains(int dayOfYear) {
+        int bit = dayOfYear - 1;
+        return (words[bit >>> 6] & 1L << bit) != 0;
+    }
+
+    /**
+     * Checks if the index contains no days.
+     *
+     * @return true if no day is present
+     */
+    public boolean isEmpty() {
+        for (long word : words) if (word != 0) return false;
+        return true;
+    }
+
+    /**
+     * Calls the consumer with every day present in the index, in ascending order.
+     *
+     * @param action The consumer receiving the day of the year, from 1 to 366
+     */
+    public void forEachDayOfYear(IntConsumer action) {
+        for (int i = 0; i < WORDS; i++) {
+            long word = words[i];
+            while (word != 0) {
+                action.accept((i << 6) + Long.numberOfTrailingZeros(word) + 1);
+                word &= word - 1;
+            }
+        }
+    }
+}
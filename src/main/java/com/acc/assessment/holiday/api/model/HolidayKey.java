@@ -0,0 +1,16 @@
+package com.acc.assessment.holiday.api.model;
+
+import java.util.Locale;
+
+/**
+ * Identifies one upstream holiday dataset, i.e. all holidays of a country in a year.
+ *
+ * @param countryCode The upper-cased country code (e.g., "US", "NL")
+ * @param year        The year of the dataset (e.g., 2025)
+ */
+public record HolidayKey(String countryCode, int year) {
+
+    public HolidayKey {
+        countryCode = countryCode.toUpperCase(Locale.ROOT);
+    }
+}
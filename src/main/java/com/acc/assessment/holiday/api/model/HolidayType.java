@@ -0,0 +1,79 @@
+package com.acc.assessment.holiday.api.model;
+
+/**
+ * Holiday types published by the external API, each mapped to one bit of a type mask.
+ */
+public enum HolidayType {
+    PUBLIC("Public"),
+    BANK("Bank"),
+    SCHOOL("School"),
+    AUTHORITIES("Authorities"),
+    OPTIONAL("Optional"),
+    OBSERVANCE("Observance");
+
+    private static final HolidayType[] VALUES = values();
+
+    private final String label;
+
+    HolidayType(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Returns the name of the type as used by the external API.
+     *
+     * @return The type label (e.g., "Public")
+     */
+    public String label() {
+        return label;
+    }
+
+    /**
+     * Returns the bit representing this type in a type mask.
+     *
+     * @return The type bit
+     */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Converts type labels to a type mask. Unknown labels are ignored.
+     *
+     * @param labels The type labels (e.g., "Public", "Bank"), may be null
+     * @return The type mask
+     */
+    public static int mask(String[] labels) {
+        int mask = 0;
+        if (labels == null) return mask;
+        for (String label : labels) {
+            HolidayType type = fromLabel(label);
+            if (type != null) mask |= type.bit();
+        }
+        return mask;
+    }
+
+    /**
+     * Looks up a type by its label, ignoring case.
+     *
+     * @param label The type label (e.g., "Public")
+     * @return The type, or null if the label is unknown
+     */
+    public static HolidayType fromLabel(String label) {
+        for (HolidayType type : VALUES) if (type.label.equalsIgnoreCase(label)) return type;
+        return null;
+    }
+
+    /**
+     * Converts a type mask back to type labels.
+     *
+     * @param mask The type mask
+     * @return The labels of the types present in the mask
+     */
+    public static String[] labels(int mask) {
+        String[] labels = new String[Integer.bitCount(mask)];
+        int i = 0;
+        for (HolidayType type : VALUES) if ((mask & type.bit()) != 0) labels[i++] = type.label;
+        return labels;
+    }
+}
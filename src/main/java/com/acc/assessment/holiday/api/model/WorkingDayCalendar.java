@@ -0,0 +1,109 @@
+package com.acc.assessment.holiday.api.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The working days of one year for one or more countries: every day except Saturdays, Sundays and the public holidays
+ * of any of the countries. A cumulative table of working days answers counts in O(1) and finds the n-th working day
+ * with a binary search.
+ */
+public final class WorkingDayCalendar {
+
+    private final int year;
+    private final HolidayDateIndex nonWorkingDays;
+    private final int[] workingDaysThrough;
+
+    private WorkingDayCalendar(int year, HolidayDateIndex nonWorkingDays) {
+        this.year = year;
+        this.nonWorkingDays = nonWorkingDays;
+        int length = LocalDate.ofYearDay(year, 1).lengthOfYear();
+        this.workingDaysThrough = new int[length + 1];
+        for (int dayOfYear = 1; dayOfYear <= length; dayOfYear++)
+            workingDaysThrough[dayOfYear] = workingDaysThrough[dayOfYear - 1] + (nonWorkingDays.contains(dayOfYear) ? 0 : 1);
+    }
+
+    /**
+     * Builds the calendar of one country from its holidays.
+     *
+     * @param dataset The holidays of the country in the calendar's year
+     * @return The calendar
+     */
+    public static WorkingDayCalendar of(HolidayDataset dataset) {
+        int year = dataset.key().year();
+        HolidayDateIndex nonWorkingDays = HolidayDateIndex.empty();
+        LocalDate date = LocalDate.ofYearDay(year, 1);
+        for (; date.getYear() == year; date = date.plusDays(1)) {
+            if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY)
+                nonWorkingDays.add(date.getDayOfYear());
+        }
+        for (int i = 0; i < dataset.size(); i++) {
+            LocalDate holiday = LocalDate.ofEpochDay(dataset.epochDay(i));
+            if (holiday.getYear() == year && dataset.hasType(i, HolidayType.PUBLIC)) nonWorkingDays.add(holiday.getDayOfYear());
+        }
+        return new WorkingDayCalendar(year, nonWorkingDays);
+    }
+
+    /**
+     * Combines the calendars of several countries for the same year into one where a day is a working day only if it is
+     * a working day in every country.
+     *
+     * @param calendars The calendars to combine, at least one, all of the same year
+     * @return The combined calendar, or the given one if there is only one
+     */
+    public static WorkingDayCalendar combine(List<WorkingDayCalendar> calendars) {
+        if (calendars.size() == 1) return calendars.get(0);
+        return new WorkingDayCalendar(calendars.get(0).year,
+                HolidayDateIndex.union(calendars.stream().map(calendar -> calendar.nonWorkingDays).toList()));
+    }
+
+    public int year() {
+        return year;
+    }
+
+    /**
+     * Returns the number of days in the calendar's year.
+     *
+     * @return 365 or 366
+     */
+    public int lengthOfYear() {
+        return workingDaysThrough.length - 1;
+    }
+
+    /**
+     * Counts the working days from the start of the year up to and including a day.
+     *
+     * @param dayOfYear The day of the year, from 0 (before the first day) to {@link #lengthOfYear()}
+     * @return The number of working days
+     */
+    public int workingDaysThrough(int dayOfYear) {
+        return workingDaysThrough[dayOfYear];
+    }
+
+    /**
+     * Counts the working days of the whole year.
+     *
+     * @return The number of working days
+     */
+    public int workingDays() {
+        return workingDaysThrough[workingDaysThrough.length - 1];
+    }
+
+    /**
+     * Finds the n-th working day of the year using binary search on the cumulative table.
+     *
+     * @param n The number of the working day, from 1 to {@link #workingDays()}
+     * @return The day of the year of the n-th working day
+     */
+    public int nthWorkingDay(int n) {
+        int low = 1;
+        int high = lengthOfYear();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (workingDaysThrough[mid] < n) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+}
@@ -1,22 +1,79 @@
 package com.acc.assessment.holiday.api.service;
 
-import com.acc.assessment.holiday.api.client.ExternalAPIClientConfig;
+import com.acc.assessment.holiday.api.cache.CountryHolidaysCache;
+import com.acc.assessment.holiday.api.cache.DatasetVersions;
+import com.acc.assessment.holiday.api.exception.ErrorResponse;
 import com.acc.assessment.holiday.api.exception.ExternalApiException;
+import com.acc.assessment.holiday.api.exception.InvalidInputException;
 import com.acc.assessment.holiday.api.exception.NoDataException;
+import com.acc.assessment.holiday.api.exception.UpstreamUnavailableException;
+import com.acc.assessment.holiday.api.metrics.HolidayMetrics;
+import com.acc.assessment.holiday.api.model.BatchQuery;
+import com.acc.assessment.holiday.api.model.BatchResult;
+import com.acc.assessment.holiday.api.model.BusinessDays;
 import com.acc.assessment.holiday.api.model.CountryHoliday;
+import com.acc.assessment.holiday.api.model.HolidayDataset;
+import com.acc.assessment.holiday.api.model.HolidayDateIndex;
+import com.acc.assessment.holiday.api.model.HolidayKey;
+import com.acc.assessment.holiday.api.model.WorkingDayCalendar;
+import com.acc.assessment.holiday.api.validation.SupportedCountries;
+import com.acc.assessment.holiday.api.validation.Validation;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.Year;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class CountryHolidaysService {
 
+    /**
+     * A lower bound on the business days of a year in any combination of countries: 260 weekdays minus a generous
+     * allowance for public holidays falling on them.
+     */
+    private static final int MIN_BUSINESS_DAYS_PER_YEAR = 200;
+
+    private static final int MAX_COMBINED_CALENDARS = 1000;
+
+    @Autowired
+    private CountryHolidaysCache holidaysCache;
+
     @Autowired
-    private ExternalAPIClientConfig clientConfig;
+    private HolidayMetrics metrics;
+
+    @Autowired
+    private SupportedCountries supportedCountries;
+
+    @Value("${country.holidays.fanout.concurrency:8}")
+    private int fanOutConcurrency;
+
+    @Value("${country.holidays.fanout.year-walk-concurrency:2}")
+    private int yearWalkConcurrency;
+
+    @Value("${country.holidays.fanout.timeout:PT10S}")
+    private Duration fanOutTimeout;
+
+    @Value("${country.holidays.year-walk.max-years:5}")
+    private int maxYearWalk;
+
+    private final Cache<CalendarKey, CombinedCalendar> combinedCalendars = Caffeine.newBuilder()
+            .maximumSize(MAX_COMBINED_CALENDARS)
+            .build();
 
     /**
      * Retrieves the last 3 holidays for the specified country and year.
@@ -26,17 +83,66 @@ public class CountryHolidaysService {
      * @return A list containing last 3 celebrated holidays
      */
     public List<CountryHoliday> getLast3CountryHolidays(String countryCode, int year) {
-        List<CountryHoliday> holidays = getCountryHolidays(countryCode, year).stream()
-                .filter(ch -> LocalDate.now().isAfter(ch.getLocalDate()))
-                .collect(Collectors.toCollection(ArrayList::new));
+        return getLast3CountryHolidaysReactive(countryCode, year).block();
+    }
+
+    /**
+     * Non-blocking variant of {@link #getLast3CountryHolidays(String, int)}.
+     *
+     * @param countryCode The country for which to retrieve the holidays (e.g., "US", "AT", "NL")
+     * @param year        The year for which to retrieve the holidays (e.g., 2025)
+     * @return A {@code Mono} emitting a list containing last 3 celebrated holidays
+     */
+    public Mono<List<CountryHoliday>> getLast3CountryHolidaysReactive(String countryCode, int year) {
+        return metrics.timeService("last3Holidays", 1, withDeadline(collectHolidays(countryCode, year, LocalDate.now(), 3, -1, this::getHolidayDataset)));
+    }
+
+    /**
+     * Retrieves the holidays of a country that fall before the anchor date, most recent first.
+     *
+     * @param countryCode The country for which to retrieve the holidays (e.g., "US", "AT", "NL")
+     * @param anchor      The date before which holidays are returned (e.g., 2025-06-01)
+     * @param count       The maximum number of holidays to return
+     * @return A list of at most {@code count} holidays with their date and name
+     */
+    public List<CountryHoliday> getPreviousHolidays(String countryCode, LocalDate anchor, int count) {
+        return getPreviousHolidaysReactive(countryCode, anchor, count).block();
+    }
 
-        while (holidays.size() < 3) holidays.addAll(getCountryHolidays(countryCode, --year));
+    /**
+     * Non-blocking variant of {@link #getPreviousHolidays(String, LocalDate, int)}.
+     *
+     * @param countryCode The country for which to retrieve the holidays (e.g., "US", "AT", "NL")
+     * @param anchor      The date before which holidays are returned (e.g., 2025-06-01)
+     * @param count       The maximum number of holidays to return
+     * @return A {@code Mono} emitting at most {@code count} holidays, most recent first
+     */
+    public Mono<List<CountryHoliday>> getPreviousHolidaysReactive(String countryCode, LocalDate anchor, int count) {
+        return metrics.timeService("previousHolidays", 1, withDeadline(collectHolidays(countryCode, anchor.getYear(), anchor, count, -1, this::getHolidayDataset)));
+    }
 
-        return holidays.stream()
-                .sorted(Comparator.comparing(CountryHoliday::getLocalDate).reversed())
-                .limit(3)
-                .map(ch -> new CountryHoliday(ch.date(), ch.name()))
-                .toList();
+    /**
+     * Retrieves the holidays of a country that fall on or after the anchor date, earliest first.
+     *
+     * @param countryCode The country for which to retrieve the holidays (e.g., "US", "AT", "NL")
+     * @param anchor      The date from which holidays are returned (e.g., 2025-06-01)
+     * @param count       The maximum number of holidays to return
+     * @return A list of at most {@code count} holidays with their date and name
+     */
+    public List<CountryHoliday> getNextHolidays(String countryCode, LocalDate anchor, int count) {
+        return getNextHolidaysReactive(countryCode, anchor, count).block();
+    }
+
+    /**
+     * Non-blocking variant of {@link #getNextHolidays(String, LocalDate, int)}.
+     *
+     * @param countryCode The country for which to retrieve the holidays (e.g., "US", "AT", "NL")
+     * @param anchor      The date from which holidays are returned (e.g., 2025-06-01)
+     * @param count       The maximum number of holidays to return
+     * @return A {@code Mono} emitting at most {@code count} holidays, earliest first
+     */
+    public Mono<List<CountryHoliday>> getNextHolidaysReactive(String countryCode, LocalDate anchor, int count) {
+        return metrics.timeService("nextHolidays", 1, withDeadline(collectHolidays(countryCode, anchor.getYear(), anchor, count, 1, this::getHolidayDataset)));
     }
 
     /**
@@ -48,16 +154,19 @@ public class CountryHolidaysService {
      * in that country for the specified year
      */
     public Map<String, Integer> getPublicHolidays(String[] countryCodes, int year) {
-        Map<String, Integer> countryHolidaysMap = new HashMap<String, Integer>();
-
-        for (String countryCode : countryCodes) {
-            countryHolidaysMap.put(countryCode, filterNonWeekendPublicHolidays(getCountryHolidays(countryCode, year)).size());
-        }
+        return getPublicHolidaysReactive(countryCodes, year).block();
+    }
 
-        return countryHolidaysMap.entrySet().stream()
-                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue,
-                        (oldValue, newValue) -> oldValue, LinkedHashMap::new));
+    /**
+     * Non-blocking variant of {@link #getPublicHolidays(String[], int)}.
+     * Countries are fetched concurrently; the first country that fails fails the whole request.
+     *
+     * @param countryCodes An array of country codes (e.g., "US", "NL", "BE") for which to retrieve holiday count
+     * @param year         The year for which to retrieve the public holidays (e.g., 2025)
+     * @return A {@code Mono} emitting the country codes mapped to their public holiday count, in descending order
+     */
+    public Mono<Map<String, Integer>> getPublicHolidaysReactive(String[] countryCodes, int year) {
+        return metrics.timeService("publicHolidays", countryCodes.length, withDeadline(countPublicHolidays(countryCodes, year, this::getHolidayDataset)));
     }
 
     /**
@@ -71,27 +180,191 @@ public class CountryHolidaysService {
      * For example: {"2025-12-25": {"US": "Christmas Day", "AT": "Christmas Day"}}
      */
     public Map<String, Map<String, String>> getCommonHolidays(String countryCode1, String countryCode2, int year) {
-        Map<String, Map<String, String>> commonHolidaysMap = new HashMap<String, Map<String, String>>();
+        return getCommonHolidaysReactive(countryCode1, countryCode2, year).block();
+    }
 
-        List<CountryHoliday> holidayList = getCountryHolidays(countryCode1, year);
+    /**
+     * Non-blocking variant of {@link #getCommonHolidays(String, String, int)}.
+     *
+     * @param countryCode1 The country code for the first country (e.g., "US", "NL")
+     * @param countryCode2 The country code for the second country (e.g., "AT", "BE")
+     * @param year         The year for which to retrieve the deduplicated common holidays (e.g., 2025)
+     * @return A {@code Mono} emitting the common holidays keyed by date
+     */
+    public Mono<Map<String, Map<String, String>>> getCommonHolidaysReactive(String countryCode1, String countryCode2, int year) {
+        return getCommonHolidaysReactive(new String[]{countryCode1, countryCode2}, year, year);
+    }
 
-        for (CountryHoliday ch2 : getCountryHolidays(countryCode2, year)) {
-            for (CountryHoliday ch1 : holidayList) {
-                if (ch2.date().equalsIgnoreCase(ch1.date())) {
-                    commonHolidaysMap
-                            .computeIfAbsent(ch2.date(), k -> new HashMap<>())
-                            .merge(ch2.countryCode(), ch2.localName(), (oldVal, newVal) -> oldVal.equalsIgnoreCase(newVal) ? oldVal : oldVal + ", " + newVal);
+    /**
+     * Retrieves the deduplicated holidays celebrated in all specified countries for a range of years.
+     *
+     * @param countryCodes The country codes (e.g., "US", "NL", "AT"); duplicates are ignored
+     * @param fromYear     The first year of the range (e.g., 2025)
+     * @param toYear       The last year of the range, inclusive (e.g., 2027)
+     * @return A map sorted by date where the key is the date and the value is another map
+     * containing the holiday names in each country with keys corresponding to country codes.
+     */
+    public Map<String, Map<String, String>> getCommonHolidays(String[] countryCodes, int fromYear, int toYear) {
+        return getCommonHolidaysReactive(countryCodes, fromYear, toYear).block();
+    }
 
-                    commonHolidaysMap.get(ch2.date())
-                            .merge(ch1.countryCode(), ch1.localName(), (oldVal, newVal) -> oldVal.equalsIgnoreCase(newVal) ? oldVal : oldVal + ", " + newVal);
-                }
-            }
-        }
-        return commonHolidaysMap;
+    /**
+     * Non-blocking variant of {@link #getCommonHolidays(String[], int, int)}.
+     * Each (country, year) dataset carries a day-of-year bitset, so the intersection per year is a word-wise AND.
+     *
+     * @param countryCodes The country codes (e.g., "US", "NL", "AT"); duplicates are ignored
+     * @param fromYear     The first year of the range (e.g., 2025)
+     * @param toYear       The last year of the range, inclusive (e.g., 2027)
+     * @return A {@code Mono} emitting the common holidays keyed by date
+     */
+    public Mono<Map<String, Map<String, String>>> getCommonHolidaysReactive(String[] countryCodes, int fromYear, int toYear) {
+        return metrics.timeService("commonHolidays", distinctCodes(countryCodes).size(),
+                withDeadline(findCommonHolidays(countryCodes, fromYear, toYear, this::getHolidayDataset)));
+    }
+
+    /**
+     * Finds the date a number of business days after or before a date. Business days are the days that are neither
+     * weekend days nor public holidays in any of the given countries.
+     *
+     * @param countryCodes The country codes (e.g., "US", "NL", "AT"); duplicates are ignored
+     * @param date         The start date (e.g., 2025-06-01)
+     * @param days         The number of business days to add; negative to go back in time
+     * @return The start date, the resulting date and the number of business days added
+     */
+    public BusinessDays addBusinessDays(String[] countryCodes, LocalDate date, int days) {
+        return addBusinessDaysReactive(countryCodes, date, days).block();
+    }
+
+    /**
+     * Non-blocking variant of {@link #addBusinessDays(String[], LocalDate, int)}.
+     * The start date itself is not counted, and adding 0 days returns the start date.
+     * Each year is answered from the cumulative working-day table of its combined calendar, so only the years the
+     * result spans are loaded. The walk is bounded by the number of years {@code days} business days can span.
+     *
+     * @param countryCodes The country codes (e.g., "US", "NL", "AT"); duplicates are ignored
+     * @param date         The start date (e.g., 2025-06-01)
+     * @param days         The number of business days to add; negative to go back in time
+     * @return A {@code Mono} emitting the start date, the resulting date and the number of business days added
+     */
+    public Mono<BusinessDays> addBusinessDaysReactive(String[] countryCodes, LocalDate date, int days) {
+        List<String> codes = distinctCodes(countryCodes);
+        int direction = days < 0 ? -1 : 1;
+        return metrics.timeService("addBusinessDays", codes.size(), withDeadline(Mono.defer(() -> {
+            if (days == 0) return Mono.just(date);
+            int[] remaining = {Math.abs(days)};
+            LocalDate[] result = new LocalDate[1];
+            return Flux.range(0, Math.abs(days) / MIN_BUSINESS_DAYS_PER_YEAR + 2)
+                    .flatMapSequential(offset -> workingDayCalendar(codes, date.getYear() + offset * direction), yearWalkConcurrency, 1)
+                    .doOnNext(calendar -> {
+                        boolean startYear = calendar.year() == date.getYear();
+                        if (direction > 0) {
+                            int before = calendar.workingDaysThrough(startYear ? date.getDayOfYear() : 0);
+                            int available = calendar.workingDays() - before;
+                            if (remaining[0] <= available)
+                                result[0] = LocalDate.ofYearDay(calendar.year(), calendar.nthWorkingDay(before + remaining[0]));
+                            else remaining[0] -= available;
+                        } else {
+                            int available = calendar.workingDaysThrough(startYear ? date.getDayOfYear() - 1 : calendar.lengthOfYear());
+                            if (remaining[0] <= available)
+                                result[0] = LocalDate.ofYearDay(calendar.year(), calendar.nthWorkingDay(available - remaining[0] + 1));
+                            else remaining[0] -= available;
+                        }
+                    })
+                    .takeUntil(calendar -> result[0] != null)
+                    .then(Mono.fromSupplier(() -> result[0]))
+                    .switchIfEmpty(Mono.error(() -> new NoDataException("No data available for input provided")));
+        }).map(target -> new BusinessDays(codes, date.toString(), target.toString(), days))));
+    }
+
+    /**
+     * Counts the business days between two dates, both included. Business days are the days that are neither
+     * weekend days nor public holidays in any of the given countries.
+     *
+     * @param countryCodes The country codes (e.g., "US", "NL", "AT"); duplicates are ignored
+     * @param from         The first date of the range (e.g., 2025-01-01)
+     * @param to           The last date of the range, inclusive (e.g., 2025-12-31)
+     * @return The range and the number of business days in it
+     */
+    public BusinessDays countBusinessDays(String[] countryCodes, LocalDate from, LocalDate to) {
+        return countBusinessDaysReactive(countryCodes, from, to).block();
+    }
+
+    /**
+     * Non-blocking variant of {@link #countBusinessDays(String[], LocalDate, LocalDate)}.
+     * The count of each year is the difference of two entries of its cumulative working-day table,
+     * and years are loaded and summed one after another.
+     *
+     * @param countryCodes The country codes (e.g., "US", "NL", "AT"); duplicates are ignored
+     * @param from         The first date of the range (e.g., 2025-01-01)
+     * @param to           The last date of the range, inclusive (e.g., 2025-12-31)
+     * @return A {@code Mono} emitting the range and the number of business days in it
+     */
+    public Mono<BusinessDays> countBusinessDaysReactive(String[] countryCodes, LocalDate from, LocalDate to) {
+        List<String> codes = distinctCodes(countryCodes);
+        return metrics.timeService("countBusinessDays", codes.size(), withDeadline(Flux.range(from.getYear(), to.getYear() - from.getYear() + 1)
+                .flatMapSequential(year -> workingDayCalendar(codes, year), yearWalkConcurrency, 1)
+                .map(calendar -> {
+                    int first = calendar.year() == from.getYear() ? from.getDayOfYear() : 1;
+                    int last = calendar.year() == to.getYear() ? to.getDayOfYear() : calendar.lengthOfYear();
+                    return calendar.workingDaysThrough(last) - calendar.workingDaysThrough(first - 1);
+                })
+                .reduce(0, Integer::sum)
+                .map(count -> new BusinessDays(codes, from.toString(), to.toString(), count))));
+    }
+
+    /**
+     * Streams the holiday datasets of several countries over a range of years, country by country and year by year.
+     * At most {@code country.holidays.fanout.concurrency} datasets are fetched ahead of the subscriber, so memory is bounded
+     * by the fan-out rather than by the range, and a subscriber that requests slowly holds back further upstream calls.
+     * Countries and years without data are skipped; any other error terminates the stream.
+     *
+     * @param countryCodes The country codes (e.g., "US", "NL", "AT"); duplicates are ignored
+     * @param fromYear     The first year of the range (e.g., 2005)
+     * @param toYear       The last year of the range, inclusive (e.g., 2025)
+     * @return A {@code Flux} emitting the dataset of every country and year with data, in country and then year order
+     */
+    public Flux<HolidayDataset> exportHolidays(String[] countryCodes, int fromYear, int toYear) {
+        Flux<HolidayKey> keys = Flux.fromIterable(distinctCodes(countryCodes))
+                .concatMap(code -> Flux.range(fromYear, toYear - fromYear + 1).map(year -> new HolidayKey(code, year)));
+        return fetchAll(keys, fanOutConcurrency, key -> getHolidayDataset(key).onErrorResume(NoDataException.class, e -> Mono.empty()));
+    }
+
+    /**
+     * Runs several queries against datasets shared between them, see {@link #getBatchResultsReactive(List)}.
+     *
+     * @param queries The queries to run
+     * @return The result or error of each query, in the order of the queries
+     */
+    public List<BatchResult> getBatchResults(List<BatchQuery> queries) {
+        return getBatchResultsReactive(queries).block();
+    }
+
+    /**
+     * Runs several queries against datasets shared between them.
+     * The distinct (country, year) datasets the queries start from are fetched concurrently up front, and every dataset,
+     * including those of years walked back to, is requested at most once per batch even if it fails to load.
+     * A failing query yields an error entry and does not fail the other queries.
+     *
+     * @param queries The queries to run
+     * @return A {@code Mono} emitting the result or error of each query, in the order of the queries
+     */
+    public Mono<List<BatchResult>> getBatchResultsReactive(List<BatchQuery> queries) {
+        Map<HolidayKey, Mono<HolidayDataset>> sharedDatasets = new ConcurrentHashMap<>();
+        Function<HolidayKey, Mono<HolidayDataset>> datasets = key -> sharedDatasets.computeIfAbsent(key, k -> getHolidayDataset(k).cache());
+        Set<HolidayKey> keys = new LinkedHashSet<>();
+        for (BatchQuery query : queries) keys.addAll(query.datasetKeys());
+
+        return metrics.timeService("batch", (int) keys.stream().map(HolidayKey::countryCode).distinct().count(), withDeadline(
+                Flux.fromIterable(keys)
+                        .flatMap(key -> datasets.apply(key).onErrorResume(e -> Mono.empty()), fanOutConcurrency)
+                        .thenMany(Flux.fromIterable(queries).concatMap(query -> runQuery(query, datasets)
+                                .map(BatchResult::of)
+                                .onErrorResume(e -> Mono.just(BatchResult.failed(toErrorResponse(e))))))
+                        .collectList()));
     }
 
     /**
-     * Retrieves all holidays for the specified country and year.
+     * Retrieves all holidays for the specified country and year, served from the holiday cache when available.
      *
      * @param countryCode The country code (e.g., "US", "AT", "NL")
      *                    representing the country for which to retrieve holidays
@@ -99,25 +372,274 @@ public class CountryHolidaysService {
      * @return A List of all holidays for the specified country and year.
      * @throws NoDataException      If countryCode has no data setup in the external API
      * @throws ExternalApiException If input provided to external API is invalid
+     * @throws UpstreamUnavailableException If the external API fails, times out or cannot be reached
      */
     public List<CountryHoliday> getCountryHolidays(String countryCode, int year) {
-        try {
-            CountryHoliday[] countryHolidays = clientConfig.getCountryHolidays(countryCode, year);
-            if (null == countryHolidays || countryHolidays.length == 0)
-                throw new NoDataException("No data available for input provided");
-            return List.of(countryHolidays);
-        } catch (WebClientResponseException e) {
-            throw new ExternalApiException("Invalid input");
+        return getCountryHolidaysReactive(countryCode, year).block();
+    }
+
+    /**
+     * Non-blocking variant of {@link #getCountryHolidays(String, int)}.
+     * Errors are signalled as {@link NoDataException}, {@link ExternalApiException} or {@link UpstreamUnavailableException}.
+     *
+     * @param countryCode The country code (e.g., "US", "AT", "NL")
+     * @param year        The year for which to retrieve the holidays (e.g., 2025)
+     * @return A {@code Mono} emitting all holidays for the specified country and year
+     */
+    public Mono<List<CountryHoliday>> getCountryHolidaysReactive(String countryCode, int year) {
+        return metrics.timeService("countryHolidays", 1, getHolidayDataset(new HolidayKey(countryCode, year)).map(HolidayDataset::toCountryHolidays));
+    }
+
+    /**
+     * Retrieves the holiday dataset for the specified country and year from the holiday cache.
+     * If the subscriber's context holds {@link DatasetVersions}, the dataset's version is recorded in it.
+     * Malformed and unsupported country codes fail without calling the external API.
+     *
+     * @param key The country and year for which to retrieve the holidays
+     * @return A {@code Mono} emitting the dataset, or {@link InvalidInputException} / {@link NoDataException} / {@link ExternalApiException}
+     * / {@link UpstreamUnavailableException}
+     */
+    private Mono<HolidayDataset> getHolidayDataset(HolidayKey key) {
+        if (!Validation.isCountryCodeWellFormed(key.countryCode()))
+            return Mono.error(new InvalidInputException("Invalid country code"));
+        if (!supportedCountries.isSupported(key.countryCode()))
+            return Mono.error(new NoDataException("No data available for input provided"));
+        return holidaysCache.get(key.countryCode(), key.year())
+                .switchIfEmpty(Mono.error(() -> new NoDataException("No data available for input provided")))
+                .onErrorMap(CountryHolidaysService::toServiceException)
+                .doOnEach(signal -> {
+                    if (signal.isOnNext())
+                        signal.getContextView().<DatasetVersions>getOrEmpty(DatasetVersions.class).ifPresent(versions -> versions.record(signal.get()));
+                });
+    }
+
+    /**
+     * Counts the non-weekend public holidays of several countries in a year.
+     *
+     * @param countryCodes The country codes (e.g., "US", "NL", "BE")
+     * @param year         The year for which to count the public holidays (e.g., 2025)
+     * @param datasets     Resolves the dataset of a country and year
+     * @return A {@code Mono} emitting the country codes mapped to their public holiday count, in descending order
+     */
+    private Mono<Map<String, Integer>> countPublicHolidays(String[] countryCodes, int year, Function<HolidayKey, Mono<HolidayDataset>> datasets) {
+        return fetchAll(Flux.fromArray(countryCodes).map(countryCode -> new HolidayKey(countryCode, year)), fanOutConcurrency, datasets)
+                .collectMap(dataset -> dataset.key().countryCode(), dataset -> dataset.countNonWeekendPublicHolidays())
+                .map(countryHolidaysMap -> countryHolidaysMap.entrySet().stream()
+                        .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue,
+                                (oldValue, newValue) -> oldValue, LinkedHashMap::new)));
+    }
+
+    /**
+     * Finds the holidays celebrated in all given countries on the same date, for a range of years.
+     *
+     * @param countryCodes The country codes (e.g., "US", "NL", "AT"); duplicates are ignored
+     * @param fromYear     The first year of the range (e.g., 2025)
+     * @param toYear       The last year of the range, inclusive (e.g., 2027)
+     * @param datasets     Resolves the dataset of a country and year
+     * @return A {@code Mono} emitting the common holidays keyed by date in ascending order
+     */
+    private Mono<Map<String, Map<String, String>>> findCommonHolidays(String[] countryCodes, int fromYear, int toYear,
+                                                                      Function<HolidayKey, Mono<HolidayDataset>> datasets) {
+        List<String> distinctCodes = distinctCodes(countryCodes);
+        Flux<HolidayKey> keys = Flux.range(fromYear, toYear - fromYear + 1)
+                .concatMapIterable(year -> distinctCodes.stream().map(code -> new HolidayKey(code, year)).toList());
+
+        return fetchAll(keys, fanOutConcurrency, datasets)
+                .buffer(distinctCodes.size())
+                .<Map<String, Map<String, String>>>collect(TreeMap::new, this::mergeCommonHolidays);
+    }
+
+    /**
+     * Returns the combined working-day calendar of several countries for a year.
+     * The calendar of each country is built once per cached dataset, and the combined calendar once per set of countries
+     * and year; it is rebuilt when the version of any of its datasets changes.
+     *
+     * @param countryCodes The distinct country codes
+     * @param year         The year of the calendar
+     * @return A {@code Mono} emitting the combined calendar
+     */
+    private Mono<WorkingDayCalendar> workingDayCalendar(List<String> countryCodes, int year) {
+        CalendarKey key = new CalendarKey(countryCodes.stream().sorted().toList(), year);
+        return fetchAll(Flux.fromIterable(key.countryCodes()).map(code -> new HolidayKey(code, year)), fanOutConcurrency, this::getHolidayDataset)
+                .collectList()
+                .map(datasets -> {
+                    if (datasets.size() == 1) return datasets.get(0).workingDayCalendar();
+                    List<Long> versions = datasets.stream().map(HolidayDataset::version).toList();
+                    CombinedCalendar cached = combinedCalendars.getIfPresent(key);
+                    if (cached != null && cached.versions().equals(versions)) return cached.calendar();
+                    WorkingDayCalendar calendar = WorkingDayCalendar.combine(datasets.stream().map(HolidayDataset::workingDayCalendar).toList());
+                    combinedCalendars.put(key, new CombinedCalendar(versions, calendar));
+                    return calendar;
+                });
+    }
+
+    /**
+     * Runs one query of a batch.
+     *
+     * @param query    The query to run
+     * @param datasets Resolves the dataset of a country and year, shared by all queries of the batch
+     * @return A {@code Mono} emitting the same result as the single-query endpoint
+     */
+    private Mono<Object> runQuery(BatchQuery query, Function<HolidayKey, Mono<HolidayDataset>> datasets) {
+        return switch (query.type()) {
+            case LAST3_HOLIDAYS -> collectHolidays(query.countryCode(), Year.now().getValue(), LocalDate.now(), 3, -1, datasets).map(Object.class::cast);
+            case PUBLIC_HOLIDAYS -> countPublicHolidays(query.countryCodes(), query.year(), datasets).map(Object.class::cast);
+            case COMMON_HOLIDAYS -> findCommonHolidays(new String[]{query.countryCode1(), query.countryCode2()}, query.year(), query.year(), datasets).map(Object.class::cast);
+        };
+    }
+
+
+    /**
+     * Converts the error of a batch query into the error response its single-query endpoint would return.
+     *
+     * @param e The error of the query
+     * @return The error response
+     */
+    private ErrorResponse toErrorResponse(Throwable error) {
+        Throwable e = toServiceException(error);
+        HttpStatus status;
+        if (e instanceof InvalidInputException || e instanceof ExternalApiException) status = HttpStatus.BAD_REQUEST;
+        else if (e instanceof NoDataException) status = HttpStatus.INTERNAL_SERVER_ERROR;
+        else if (e instanceof UpstreamUnavailableException) status = HttpStatus.SERVICE_UNAVAILABLE;
+        else status = HttpStatus.BAD_REQUEST;
+        return new ErrorResponse(status.value(), e.getMessage());
+    }
+
+    /**
+     * Converts a failed upstream call into the exception its endpoint responds with. Input rejected by the external API (4xx other than 429)
+     * becomes {@link ExternalApiException}; 429 and 5xx responses still failing after retries, connection errors and timeouts become
+     * {@link UpstreamUnavailableException}. Other errors are returned unchanged.
+     *
+     * @param e The error of the upstream call
+     * @return The exception to signal
+     */
+    private static Throwable toServiceException(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            HttpStatusCode status = responseException.getStatusCode();
+            if (status.is4xxClientError() && status.value() != HttpStatus.TOO_MANY_REQUESTS.value()) return new ExternalApiException("Invalid input");
+            return new UpstreamUnavailableException("External API is unavailable");
         }
+        if (e instanceof WebClientRequestException) return new UpstreamUnavailableException("External API is unreachable");
+        if (e instanceof TimeoutException) return new UpstreamUnavailableException("Timed out waiting for the external API");
+        return e;
     }
 
     /**
-     * Filters public holidays which are not falling on weekends (Saturday or Sunday)
+     * Removes blank and duplicate country codes, ignoring case.
      *
-     * @param countryHolidays holidays list to be checked
-     * @return List of all non-weekend public holidays
+     * @param countryCodes The country codes
+     * @return The distinct country codes in upper case, in their original order
+     */
+    private List<String> distinctCodes(String[] countryCodes) {
+        return Arrays.stream(countryCodes).filter(code -> code != null && !code.isBlank()).map(code -> code.toUpperCase(Locale.ROOT)).distinct().toList();
+    }
+
+    /**
+     * Fetches several holiday datasets concurrently, with at most {@code concurrency} upstream calls in flight.
+     * Results are emitted in the order of the keys. The first failing dataset terminates the flux with its error;
+     * fetches already in flight still complete and populate the cache.
+     *
+     * @param keys        The datasets to fetch
+     * @param concurrency The maximum number of datasets fetched at the same time
+     * @param datasets    Resolves the dataset of a country and year
+     * @return A {@code Flux} emitting the dataset of each key
+     */
+    private Flux<HolidayDataset> fetchAll(Flux<HolidayKey> keys, int concurrency, Function<HolidayKey, Mono<HolidayDataset>> datasets) {
+        return keys.flatMapSequential(datasets, concurrency, 1);
+    }
+
+    /**
+     * Fails the given request with {@link UpstreamUnavailableException} (503) if it does not complete within the fan-out timeout.
+     * A missed deadline is the external API being slow, not the caller's input being wrong.
+     *
+     * @param request The request to bound
+     * @return The bounded request
+     */
+    private <T> Mono<T> withDeadline(Mono<T> request) {
+        return request.timeout(fanOutTimeout, Mono.error(() -> new UpstreamUnavailableException("Timed out waiting for the external API")));
+    }
+
+    /**
+     * Collects holidays on one side of the anchor date, walking one year at a time until enough are found.
+     * Each dataset is sorted by date, so the walk starts at a binary-searched position and needs no further sorting.
+     * A year is only fetched once the previous one turned out not to hold enough holidays. The walk covers at most
+     * {@code country.holidays.year-walk.max-years} years and stops early at the first year without data,
+     * so sparse countries return fewer holidays instead of looping against the external API.
+     *
+     * @param countryCode The country code (e.g., "US", "AT", "NL")
+     * @param year        The year to start from
+     * @param anchor      Holidays before this date are collected when walking back, on or after it when walking forward
+     * @param count       The maximum number of holidays to collect
+     * @param direction   -1 to walk back in time, 1 to walk forward
+     * @param datasets    Resolves the dataset of a country and year
+     * @return A {@code Mono} emitting the holidays with their date and name, nearest to the anchor first
+     */
+    private Mono<List<CountryHoliday>> collectHolidays(String countryCode, int year, LocalDate anchor, int count, int direction,
+                                                       Function<HolidayKey, Mono<HolidayDataset>> datasets) {
+        int anchorEpochDay = (int) anchor.toEpochDay();
+        return Mono.defer(() -> {
+            List<CountryHoliday> collected = new ArrayList<>(count);
+            return walkYears(countryCode, year, direction, datasets)
+                    .doOnNext(dataset -> {
+                        int first = dataset.firstOnOrAfter(anchorEpochDay);
+                        if (direction < 0) {
+                            for (int i = first - 1; i >= 0 && collected.size() < count; i--)
+                                collected.add(new CountryHoliday(dataset.date(i), dataset.name(i)));
+                        } else {
+                            for (int i = first; i < dataset.size() && collected.size() < count; i++)
+                                collected.add(new CountryHoliday(dataset.date(i), dataset.name(i)));
+                        }
+                    })
+                    .takeUntil(dataset -> collected.size() >= count)
+                    .then(Mono.fromSupplier(() -> collected));
+        });
+    }
+
+    /**
+     * Emits the datasets of consecutive years of a country, starting at the given year.
+     * Each year is fetched only when the subscriber requests it after the previous one.
+     * A missing first year fails with {@link NoDataException}; a missing later year ends the walk.
+     *
+     * @param countryCode The country code (e.g., "US", "AT", "NL")
+     * @param year        The first year of the walk
+     * @param direction   -1 to walk back in time, 1 to walk forward
+     * @param datasets    Resolves the dataset of a country and year
+     * @return A {@code Flux} emitting at most {@code country.holidays.year-walk.max-years} datasets in walk order
+     */
+    private Flux<HolidayDataset> walkYears(String countryCode, int year, int direction, Function<HolidayKey, Mono<HolidayDataset>> datasets) {
+        return Flux.range(0, maxYearWalk)
+                .concatMap(offset -> datasets.apply(new HolidayKey(countryCode, year + offset * direction))
+                        .map(Optional::of)
+                        .onErrorResume(NoDataException.class, e -> offset == 0 ? Mono.<Optional<HolidayDataset>>error(e) : Mono.just(Optional.<HolidayDataset>empty())))
+                .takeWhile(Optional::isPresent)
+                .map(Optional::get);
+    }
+
+    /**
+     * Adds the holidays that all countries of one year celebrate on the same date to the result map.
+     *
+     * @param commonHolidaysMap The result map keyed by date and then by country code
+     * @param yearDatasets      The datasets of all requested countries for one year
+     */
+    private void mergeCommonHolidays(Map<String, Map<String, String>> commonHolidaysMap, List<HolidayDataset> yearDatasets) {
+        int year = yearDatasets.get(0).key().year();
+        HolidayDateIndex.intersect(yearDatasets.stream().map(HolidayDataset::dateIndex).toList()).forEachDayOfYear(dayOfYear -> {
+            Map<String, String> localNames = new LinkedHashMap<>();
+            for (HolidayDataset dataset : yearDatasets) localNames.put(dataset.key().countryCode(), dataset.localNameOn(dayOfYear));
+            commonHolidaysMap.put(LocalDate.ofYearDay(year, dayOfYear).toString(), localNames);
+        });
+    }
+
+    /**
+     * The sorted country codes and the year of a combined working-day calendar.
+     */
+    private record CalendarKey(List<String> countryCodes, int year) {
+    }
+
+    /**
+     * A combined working-day calendar and the versions of the datasets, in country code order, it was built from.
      */
-    private List<CountryHoliday> filterNonWeekendPublicHolidays(List<CountryHoliday> countryHolidays) {
-        return countryHolidays.stream().filter(ch -> ch.isPublicHoliday() && !ch.isWeekend()).toList();
+    private record CombinedCalendar(List<Long> versions, WorkingDayCalendar calendar) {
     }
 }
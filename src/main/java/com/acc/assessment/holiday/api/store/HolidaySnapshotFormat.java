@@ -0,0 +1,180 @@
+package com.acc.assessment.holiday.api.store;
+
+import com.acc.assessment.holiday.api.model.CountryHoliday;
+import com.acc.assessment.holiday.api.model.HolidayDataset;
+import com.acc.assessment.holiday.api.model.HolidayKey;
+import com.acc.assessment.holiday.api.model.HolidayType;
+
+import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads and writes holiday snapshot files.
+ * <p>
+ * Layout (big-endian): magic, dataset count, then per dataset the country code, year and holiday count,
+ * followed per holiday by epoch day, type mask, fixed/global flags, launch year, local name, name and counties.
+ * Strings are stored as a length-prefixed UTF-8 byte sequence, with length -1 for null.
+ */
+public final class HolidaySnapshotFormat {
+
+    private static final int MAGIC = 0x484F4C31;
+    private static final int NO_LAUNCH_YEAR = Integer.MIN_VALUE;
+    private static final int STRING_LENGTH_BYTES = 4;
+    private static final int MIN_DATASET_BYTES = STRING_LENGTH_BYTES + 4 + 4;
+    private static final int MIN_HOLIDAY_BYTES = 4 + 4 + 1 + 4 + 3 * STRING_LENGTH_BYTES;
+
+    private HolidaySnapshotFormat() {
+    }
+
+    /**
+     * Memory-maps a snapshot file and decodes its datasets.
+     *
+     * @param file The snapshot file
+     * @return The datasets stored in the file
+     * @throws IOException If the file cannot be read, is not a holiday snapshot or is truncated or corrupt
+     */
+    public static List<HolidayDataset> read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(buffer);
+        }
+    }
+
+    /**
+     * Writes datasets to a snapshot file, replacing it atomically.
+     *
+     * @param file     The snapshot file
+     * @param datasets The datasets to store
+     * @throws IOException If the file cannot be written
+     */
+    public static void write(Path file, Collection<HolidayDataset> datasets) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(datasets.size());
+            for (HolidayDataset dataset : datasets) writeDataset(out, dataset);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static List<HolidayDataset> read(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < 8 || buffer.getInt() != MAGIC) throw new IOException("Not a holiday snapshot");
+        try {
+            int datasetCount = checkCount(buffer, buffer.getInt(), MIN_DATASET_BYTES);
+            List<HolidayDataset> datasets = new ArrayList<>(datasetCount);
+            for (int d = 0; d < datasetCount; d++) {
+                String countryCode = readString(buffer);
+                if (countryCode == null) throw new IOException("Corrupt holiday snapshot: missing country code");
+                int year = buffer.getInt();
+                int holidayCount = checkCount(buffer, buffer.getInt(), MIN_HOLIDAY_BYTES);
+                HolidayDataset.Builder builder = HolidayDataset.builder(new HolidayKey(countryCode, year), holidayCount);
+                for (int i = 0; i < holidayCount; i++) {
+                    int epochDay = buffer.getInt();
+                    int typeMask = buffer.getInt();
+                    byte flags = buffer.get();
+                    int launchYear = buffer.getInt();
+                    String localName = readString(buffer);
+                    String name = readString(buffer);
+                    String[] counties = readStrings(buffer);
+                    builder.add(epochDay, typeMask, localName, name, decodeFlag(flags), decodeFlag(flags >> 2),
+                            counties, launchYear == NO_LAUNCH_YEAR ? null : launchYear);
+                }
+                datasets.add(builder.build());
+            }
+            return datasets;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Corrupt holiday snapshot: truncated", e);
+        }
+    }
+
+    /**
+     * Checks that the rest of the buffer can hold a section of {@code count} elements, so a corrupt count fails
+     * before anything is allocated for it.
+     *
+     * @param buffer          The buffer, positioned after the count
+     * @param count           The element count read from the buffer
+     * @param minElementBytes The smallest number of bytes an element is stored in
+     * @return The element count
+     * @throws IOException If the count is negative or larger than the rest of the buffer allows
+     */
+    private static int checkCount(ByteBuffer buffer, int count, int minElementBytes) throws IOException {
+        if (count < 0 || (long) count * minElementBytes > buffer.remaining())
+            throw new IOException("Corrupt holiday snapshot: count " + count + " exceeds the remaining " + buffer.remaining() + " bytes");
+        return count;
+    }
+
+    private static void writeDataset(DataOutputStream out, HolidayDataset dataset) throws IOException {
+        writeString(out, dataset.key().countryCode());
+        out.writeInt(dataset.key().year());
+        out.writeInt(dataset.size());
+        for (int i = 0; i < dataset.size(); i++) {
+            CountryHoliday holiday = dataset.toCountryHoliday(i);
+            out.writeInt(dataset.epochDay(i));
+            out.writeInt(HolidayType.mask(holiday.types()));
+            out.writeByte(encodeFlag(holiday.fixed()) | encodeFlag(holiday.global()) << 2);
+            out.writeInt(holiday.launchYear() == null ? NO_LAUNCH_YEAR : holiday.launchYear());
+            writeString(out, holiday.localName());
+            writeString(out, holiday.name());
+            writeStrings(out, holiday.counties());
+        }
+    }
+
+    private static int encodeFlag(Boolean flag) {
+        return flag == null ? 0 : flag ? 2 : 1;
+    }
+
+    private static Boolean decodeFlag(int flags) {
+        return switch (flags & 3) {
+            case 1 -> Boolean.FALSE;
+            case 2 -> Boolean.TRUE;
+            default -> null;
+        };
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) throws IOException {
+        int length = buffer.getInt();
+        if (length < 0) return null;
+        byte[] bytes = new byte[checkCount(buffer, length, 1)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeStrings(DataOutputStream out, String[] values) throws IOException {
+        out.writeInt(values == null ? -1 : values.length);
+        if (values != null) for (String value : values) writeString(out, value);
+    }
+
+    private static String[] readStrings(ByteBuffer buffer) throws IOException {
+        int length = buffer.getInt();
+        if (length < 0) return null;
+        String[] values = new String[checkCount(buffer, length, STRING_LENGTH_BYTES)];
+        for (int i = 0; i < values.length; i++) values[i] = readString(buffer);
+        return values;
+    }
+}
@@ -0,0 +1,110 @@
+package com.acc.assessment.holiday.api.store;
+
+import com.acc.assessment.holiday.api.model.HolidayDataset;
+import com.acc.assessment.holiday.api.model.HolidayKey;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps fetched holiday datasets in a snapshot file so that a restarted instance starts warm
+ * and can keep serving when the external API is unreachable. New datasets are written every
+ * {@code country.holidays.store.flush-interval} and on shutdown; at most {@code country.holidays.store.max-datasets}
+ * are kept, evicting the least used ones. Disabled unless {@code country.holidays.store.path} is set.
+ */
+@Component
+public class HolidaySnapshotStore {
+
+    private static final Logger log = LoggerFactory.getLogger(HolidaySnapshotStore.class);
+
+    private static final long DEFAULT_MAX_DATASETS = 10000;
+
+    @Value("${country.holidays.store.path:}")
+    private String path;
+
+    @Value("${country.holidays.store.max-datasets:10000}")
+    private long maxDatasets = DEFAULT_MAX_DATASETS;
+
+    private final Cache<HolidayKey, HolidayDataset> datasets = Caffeine.newBuilder()
+            .maximumSize(DEFAULT_MAX_DATASETS)
+            .build();
+
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    /**
+     * Loads the snapshot file, if configured and present.
+     */
+    @PostConstruct
+    public void load() {
+        datasets.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maxDatasets));
+        if (!isEnabled() || !Files.exists(Path.of(path))) return;
+        try {
+            for (HolidayDataset dataset : HolidaySnapshotFormat.read(Path.of(path))) datasets.put(dataset.key(), dataset);
+            log.info("Loaded {} holiday datasets from {}", datasets.estimatedSize(), path);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable holiday snapshot {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the snapshot file if datasets were recorded since it was last written, periodically and on shutdown,
+     * so a crashed instance loses at most one flush interval of fetched datasets. A failed write is retried with the next flush.
+     */
+    @PreDestroy
+    @Scheduled(initialDelayString = "${country.holidays.store.flush-interval:PT5M}", fixedDelayString = "${country.holidays.store.flush-interval:PT5M}")
+    public synchronized void flush() {
+        if (!isEnabled() || !dirty.getAndSet(false)) return;
+        try {
+            HolidaySnapshotFormat.write(Path.of(path), datasets.asMap().values());
+        } catch (IOException e) {
+            dirty.set(true);
+            log.warn("Could not write holiday snapshot {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns a stored dataset.
+     *
+     * @param key The country and year of the dataset
+     * @return The dataset, or null if it is not stored
+     */
+    public HolidayDataset get(HolidayKey key) {
+        return datasets.getIfPresent(key);
+    }
+
+    /**
+     * Returns all stored datasets.
+     *
+     * @return The stored datasets
+     */
+    public Collection<HolidayDataset> getAll() {
+        return datasets.asMap().values();
+    }
+
+    /**
+     * Stores a dataset fetched from the external API, to be written with the next flush.
+     *
+     * @param dataset The dataset to store
+     */
+    public void record(HolidayDataset dataset) {
+        if (!isEnabled()) return;
+        datasets.put(dataset.key(), dataset);
+        dirty.set(true);
+    }
+
+    private boolean isEnabled() {
+        return path != null && !path.isBlank();
+    }
+}
@@ -0,0 +1,59 @@
+package com.acc.assessment.holiday.api.store;
+
+import com.acc.assessment.holiday.api.model.CountryHoliday;
+import com.acc.assessment.holiday.api.model.HolidayDataset;
+import com.acc.assessment.holiday.api.model.HolidayKey;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Builds a holiday snapshot file from upstream JSON responses saved as {@code <sourceDir>/<year>/<countryCode>.json},
+ * mirroring the external API path {@code /publicholidays/{year}/{countryCode}}.
+ * <p>
+ * Usage: {@code java -cp HolidayApi.jar -Dloader.main=com.acc.assessment.holiday.api.store.SnapshotBuilder
+ * org.springframework.boot.loader.launch.PropertiesLauncher <sourceDir> <snapshotFile>}
+ */
+public final class SnapshotBuilder {
+
+    private SnapshotBuilder() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: SnapshotBuilder <sourceDir> <snapshotFile>");
+            System.exit(1);
+        }
+        List<HolidayDataset> datasets = build(Path.of(args[0]));
+        HolidaySnapshotFormat.write(Path.of(args[1]), datasets);
+        System.out.println("Wrote " + datasets.size() + " holiday datasets to " + args[1]);
+    }
+
+    /**
+     * Reads every {@code <year>/<countryCode>.json} file below the source directory.
+     *
+     * @param sourceDir The directory containing one sub-directory per year
+     * @return The datasets read, skipping files without holidays
+     * @throws IOException If a file cannot be read or parsed
+     */
+    public static List<HolidayDataset> build(Path sourceDir) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<HolidayDataset> datasets = new ArrayList<>();
+        try (Stream<Path> files = Files.find(sourceDir, 2, (file, attributes) -> attributes.isRegularFile()
+                && file.getFileName().toString().endsWith(".json") && file.getParent().getFileName().toString().matches("\\d+"))) {
+            for (Path file : files.sorted().toList()) {
+                String fileName = file.getFileName().toString();
+                HolidayKey key = new HolidayKey(fileName.substring(0, fileName.length() - ".json".length()),
+                        Integer.parseInt(file.getParent().getFileName().toString()));
+                CountryHoliday[] holidays = objectMapper.readValue(file.toFile(), CountryHoliday[].class);
+                if (holidays != null && holidays.length > 0) datasets.add(HolidayDataset.of(key, holidays));
+            }
+        }
+        return datasets;
+    }
+}
@@ -0,0 +1,96 @@
+package com.acc.assessment.holiday.api.validation;
+
+import com.acc.assessment.holiday.api.client.ExternalAPIClientConfig;
+import com.acc.assessment.holiday.api.model.AvailableCountry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the country codes supported by the external API, so requests for other countries are rejected without a round trip.
+ * The set starts from a snapshot bundled with the application and is refreshed from the external API's AvailableCountries
+ * resource every {@code country.holidays.countries.refresh-interval}, starting {@code country.holidays.countries.refresh-initial-delay}
+ * after startup, except in offline mode. A failed or empty refresh keeps
+ * the current set. Disabled with {@code country.holidays.countries.validation.enabled=false}.
+ */
+@Component
+public class SupportedCountries {
+
+    private static final Logger log = LoggerFactory.getLogger(SupportedCountries.class);
+
+    private static final String BUNDLED_COUNTRIES = "/available-countries.json";
+
+    @Autowired
+    private ExternalAPIClientConfig clientConfig;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${country.holidays.countries.validation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${country.holidays.offline:false}")
+    private boolean offline;
+
+    private volatile Set<String> countryCodes = Set.of();
+
+    /**
+     * Loads the bundled snapshot of supported countries.
+     */
+    @PostConstruct
+    public void loadBundled() {
+        try (InputStream in = SupportedCountries.class.getResourceAsStream(BUNDLED_COUNTRIES)) {
+            if (in != null) update(objectMapper.readValue(in, AvailableCountry[].class), "bundled snapshot");
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable bundled country list: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reloads the supported countries from the external API.
+     */
+    @Scheduled(initialDelayString = "${country.holidays.countries.refresh-initial-delay:PT10M}",
+            fixedDelayString = "${country.holidays.countries.refresh-interval:PT24H}")
+    public void refresh() {
+        if (!enabled || offline) return;
+        try {
+            update(clientConfig.fetchAvailableCountries().block(), "external API");
+        } catch (RuntimeException e) {
+            log.warn("Keeping {} supported countries, refresh failed: {}", countryCodes.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Checks if the external API has data for a country. Every well-formed code is accepted while validation is disabled
+     * or no country list could be loaded.
+     *
+     * @param countryCode The country code (e.g., "US", "NL")
+     * @return true if the country is supported
+     */
+    public boolean isSupported(String countryCode) {
+        Set<String> supported = countryCodes;
+        return !enabled || supported.isEmpty() || supported.contains(countryCode.toUpperCase(Locale.ROOT));
+    }
+
+    private void update(AvailableCountry[] countries, String source) {
+        if (countries == null || countries.length == 0) return;
+        countryCodes = Arrays.stream(countries)
+                .map(AvailableCountry::countryCode)
+                .filter(Validation::isCountryCodeWellFormed)
+                .map(code -> code.toUpperCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        log.info("Loaded {} supported countries from {}", countryCodes.size(), source);
+    }
+}
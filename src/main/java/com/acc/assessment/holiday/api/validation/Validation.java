@@ -1,7 +1,33 @@
 package com.acc.assessment.holiday.api.validation;
 
+import com.acc.assessment.holiday.api.model.BatchQuery;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Input checks shared by the blocking and the reactive controllers, together with the request limits they enforce.
+ */
 public class Validation {
 
+    public static final int MAX_HOLIDAY_COUNT = 100;
+
+    public static final int MAX_BATCH_SIZE = 100;
+
+    public static final int MAX_BUSINESS_DAYS = 1000;
+
+    public static final int MAX_YEAR_SPAN = 10;
+
+    public static final int MAX_SHARED_COUNTRIES = 50;
+
+    public static final int MAX_BATCH_DATASETS = MAX_SHARED_COUNTRIES * MAX_YEAR_SPAN;
+
+    public static final int MAX_EXPORT_COUNTRIES = 250;
+
+    public static final int MAX_EXPORT_YEARS = 50;
+
     /**
      * Checks if the given array is either null or empty.
      *
@@ -11,4 +37,169 @@ public class Validation {
     public static boolean isArrayNullOrEmpty(String[] theArray) {
         return theArray == null || theArray.length == 0;
     }
+
+    /**
+     * Checks if the given array contains at least two distinct non-blank values, ignoring case.
+     *
+     * @param theArray The array to check.
+     * @return true if at least two distinct values are present, false otherwise.
+     */
+    public static boolean hasTwoOrMoreDistinctValues(String[] theArray) {
+        return !isArrayNullOrEmpty(theArray) && Arrays.stream(theArray)
+                .filter(value -> value != null && !value.isBlank())
+                .map(value -> value.toUpperCase(Locale.ROOT))
+                .distinct().count() >= 2;
+    }
+
+    /**
+     * Checks if a country code consists of two ASCII letters, as ISO 3166-1 alpha-2 codes do.
+     *
+     * @param countryCode The country code to check.
+     * @return true if the code is well-formed, false otherwise.
+     */
+    public static boolean isCountryCodeWellFormed(String countryCode) {
+        return countryCode != null && countryCode.length() == 2 && isAsciiLetter(countryCode.charAt(0)) && isAsciiLetter(countryCode.charAt(1));
+    }
+
+    /**
+     * Checks if the given array has at least one element and no null or blank values.
+     *
+     * @param theArray The array to check.
+     * @return true if the array is non-empty and all values are non-blank, false otherwise.
+     */
+    public static boolean hasNoBlankValues(String[] theArray) {
+        return !isArrayNullOrEmpty(theArray) && Arrays.stream(theArray).allMatch(Validation::isNotBlank);
+    }
+
+    /**
+     * Checks if the given year range is ordered, treating a missing end year as a single-year range.
+     *
+     * @param fromYear The first year of the range.
+     * @param toYear   The last year of the range, or null.
+     * @return true if the range is valid, false otherwise.
+     */
+    public static boolean isYearRangeValid(int fromYear, Integer toYear) {
+        return toYear == null || toYear >= fromYear;
+    }
+
+    /**
+     * Checks if the given year range is ordered and covers at most {@code maxYears} years, treating a missing end year as a single-year range.
+     *
+     * @param fromYear The first year of the range.
+     * @param toYear   The last year of the range, or null.
+     * @param maxYears The maximum number of years in the range.
+     * @return true if the range is valid, false otherwise.
+     */
+    public static boolean isYearRangeValid(int fromYear, Integer toYear, int maxYears) {
+        return isYearRangeValid(fromYear, toYear) && (toYear == null || (long) toYear - fromYear < maxYears);
+    }
+
+    /**
+     * Checks if a batch query has a type and the parameters its type requires.
+     *
+     * @param query The query to check.
+     * @return true if the query can be run, false otherwise.
+     */
+    public static boolean isBatchQueryValid(BatchQuery query) {
+        if (query == null || query.type() == null) return false;
+        return switch (query.type()) {
+            case LAST3_HOLIDAYS -> isNotBlank(query.countryCode());
+            case PUBLIC_HOLIDAYS -> query.year() != null && hasNoBlankValues(query.countryCodes());
+            case COMMON_HOLIDAYS -> query.year() != null && isNotBlank(query.countryCode1()) && isNotBlank(query.countryCode2())
+                    && !query.countryCode1().equalsIgnoreCase(query.countryCode2());
+        };
+    }
+
+    /**
+     * Checks the parameters of the commonHolidays endpoint.
+     *
+     * @param countryCode1 The first country code.
+     * @param countryCode2 The second country code.
+     * @return true if both codes are present and different, false otherwise.
+     */
+    public static boolean isCommonHolidaysRequestValid(String countryCode1, String countryCode2) {
+        return isNotBlank(countryCode1) && isNotBlank(countryCode2) && !countryCode1.equalsIgnoreCase(countryCode2);
+    }
+
+    /**
+     * Checks the parameters of the sharedHolidays endpoint.
+     *
+     * @param countryCodes The country codes.
+     * @param year         The first year.
+     * @param toYear       The last year, or null.
+     * @return true if there are at least two distinct and at most {@link #MAX_SHARED_COUNTRIES} codes
+     * and the range covers at most {@link #MAX_YEAR_SPAN} years, false otherwise.
+     */
+    public static boolean isSharedHolidaysRequestValid(String[] countryCodes, int year, Integer toYear) {
+        return hasTwoOrMoreDistinctValues(countryCodes) && countryCodes.length <= MAX_SHARED_COUNTRIES && isYearRangeValid(year, toYear, MAX_YEAR_SPAN);
+    }
+
+    /**
+     * Checks the parameters of the previous and next holidays endpoints.
+     *
+     * @param countryCode The country code.
+     * @param count       The number of holidays requested.
+     * @return true if the code is present and the count is between 1 and {@link #MAX_HOLIDAY_COUNT}, false otherwise.
+     */
+    public static boolean isHolidayListRequestValid(String countryCode, int count) {
+        return isNotBlank(countryCode) && count >= 1 && count <= MAX_HOLIDAY_COUNT;
+    }
+
+    /**
+     * Checks a batch of queries.
+     *
+     * @param queries The queries.
+     * @return true if there are between 1 and {@link #MAX_BATCH_SIZE} queries, each of them is valid and together they
+     * read at most {@link #MAX_BATCH_DATASETS} distinct (country, year) datasets, false otherwise.
+     */
+    public static boolean isBatchValid(List<BatchQuery> queries) {
+        return queries != null && !queries.isEmpty() && queries.size() <= MAX_BATCH_SIZE && queries.stream().allMatch(Validation::isBatchQueryValid)
+                && queries.stream().flatMap(query -> query.datasetKeys().stream()).distinct().limit(MAX_BATCH_DATASETS + 1L).count() <= MAX_BATCH_DATASETS;
+    }
+
+    /**
+     * Checks the parameters of the addBusinessDays endpoint.
+     *
+     * @param countryCodes The country codes.
+     * @param days         The number of business days to add.
+     * @return true if the codes are present and at most {@link #MAX_BUSINESS_DAYS} days are added or subtracted, false otherwise.
+     */
+    public static boolean isAddBusinessDaysRequestValid(String[] countryCodes, int days) {
+        return hasNoBlankValues(countryCodes) && Math.abs(days) <= MAX_BUSINESS_DAYS;
+    }
+
+    /**
+     * Checks the parameters of the countBusinessDays endpoint.
+     *
+     * @param countryCodes The country codes.
+     * @param from         The first date.
+     * @param to           The last date, inclusive.
+     * @return true if the codes are present and the range is ordered and spans at most {@link #MAX_YEAR_SPAN} years, false otherwise.
+     */
+    public static boolean isCountBusinessDaysRequestValid(String[] countryCodes, LocalDate from, LocalDate to) {
+        return hasNoBlankValues(countryCodes) && !to.isBefore(from) && to.getYear() - from.getYear() < MAX_YEAR_SPAN;
+    }
+
+    /**
+     * Checks the parameters of the export endpoint.
+     *
+     * @param countryCodes The country codes.
+     * @param fromYear     The first year.
+     * @param toYear       The last year, inclusive.
+     * @return true if there are at most {@link #MAX_EXPORT_COUNTRIES} well-formed codes and the range covers at most
+     * {@link #MAX_EXPORT_YEARS} years, false otherwise.
+     */
+    public static boolean isExportRequestValid(String[] countryCodes, int fromYear, int toYear) {
+        return hasNoBlankValues(countryCodes) && countryCodes.length <= MAX_EXPORT_COUNTRIES
+                && Arrays.stream(countryCodes).allMatch(Validation::isCountryCodeWellFormed)
+                && isYearRangeValid(fromYear, toYear, MAX_EXPORT_YEARS);
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    private static boolean isNotBlank(String value) {
+        return value != null && !value.isBlank();
+    }
 }
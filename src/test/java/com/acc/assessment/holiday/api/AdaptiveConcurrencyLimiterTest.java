@@ -0,0 +1,46 @@
+package com.acc.assessment.holiday.api;
+
+import com.acc.assessment.holiday.api.client.AdaptiveConcurrencyLimiter;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+    /**
+     * Unit test for the admission and limit adjustment of the concurrency limiter.
+     * This test verifies that callers above the limit are queued up to the queue size and rejected beyond it,
+     * that a released permit is handed to the waiting caller and that slow calls lower the limit.
+     */
+    @Test
+    public void admissionAndBackoffTest() {
+
+        /// Initial setup
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, Duration.ofMillis(100), 0.5, 1);
+        AtomicBoolean granted = new AtomicBoolean();
+
+        /// callers beyond the limit wait until the queue is full, then are rejected
+        assertEquals(AdaptiveConcurrencyLimiter.Admission.ACQUIRED, limiter.tryAcquire(() -> fail("not queued")));
+        assertEquals(AdaptiveConcurrencyLimiter.Admission.ACQUIRED, limiter.tryAcquire(() -> fail("not queued")));
+        assertEquals(AdaptiveConcurrencyLimiter.Admission.QUEUED, limiter.tryAcquire(() -> granted.set(true)));
+        assertEquals(AdaptiveConcurrencyLimiter.Admission.REJECTED, limiter.tryAcquire(() -> fail("not queued")));
+        assertEquals(1, limiter.getQueued());
+
+        /// a fast call keeps the limit and hands its permit to the waiting caller
+        limiter.onSuccess(Duration.ofMillis(10).toNanos());
+        assertTrue(granted.get());
+        assertEquals(2, limiter.getLimit());
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(0, limiter.getQueued());
+
+        /// a slow call and a dropped call halve the limit down to the minimum
+        limiter.onSuccess(Duration.ofSeconds(1).toNanos());
+        assertEquals(1, limiter.getLimit());
+        limiter.onDropped();
+        assertEquals(1, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+}
@@ -0,0 +1,142 @@
+package com.acc.assessment.holiday.api;
+
+import com.acc.assessment.holiday.api.cache.CountryHolidaysCache;
+import com.acc.assessment.holiday.api.client.ExternalAPIClientConfig;
+import com.acc.assessment.holiday.api.model.CountryHoliday;
+import com.acc.assessment.holiday.api.model.HolidayDataset;
+import com.acc.assessment.holiday.api.model.HolidayKey;
+import com.acc.assessment.holiday.api.store.HolidaySnapshotStore;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CountryHolidaysCacheTest {
+
+    /**
+     * Unit test for negative caching.
+     * This test verifies that 404 and empty responses of the external API are replayed without calling it again.
+     */
+    @Test
+    public void negativeCacheTest() {
+
+        /// Initial setup
+        ExternalAPIClientConfig mockConfig = Mockito.mock(ExternalAPIClientConfig.class);
+        CountryHolidaysCache cache = createCache(mockConfig, Duration.ofHours(5));
+        Mockito.doReturn(Mono.error(WebClientResponseException.create(404, "Not Found", null, null, null)))
+                .when(mockConfig).fetchHolidayDataset("XX", 2020);
+        Mockito.doReturn(Mono.just(HolidayDataset.of(new HolidayKey("AT", 2020), new CountryHoliday[0])))
+                .when(mockConfig).fetchHolidayDataset("AT", 2020);
+
+        /// method calls, twice each
+        for (int i = 0; i < 2; i++) {
+            assertThrows(WebClientResponseException.NotFound.class, () -> cache.get("XX", 2020).block());
+            assertNull(cache.get("AT", 2020).block());
+        }
+
+        /// verify if the external API was called once per key
+        Mockito.verify(mockConfig, Mockito.times(1)).fetchHolidayDataset("XX", 2020);
+        Mockito.verify(mockConfig, Mockito.times(1)).fetchHolidayDataset("AT", 2020);
+
+        /// verify if invalidating the cache forgets the misses
+        cache.invalidateAll();
+        assertNull(cache.get("AT", 2020).block());
+        Mockito.verify(mockConfig, Mockito.times(2)).fetchHolidayDataset("AT", 2020);
+    }
+
+    /**
+     * Unit test for stale-while-revalidate.
+     * This test verifies that a current year entry due for a refresh is still served while it is reloaded once,
+     * and that the reloaded dataset replaces it.
+     */
+    @Test
+    public void staleWhileRevalidateTest() {
+
+        /// Initial setup
+        int year = Year.now().getValue();
+        ExternalAPIClientConfig mockConfig = Mockito.mock(ExternalAPIClientConfig.class);
+        CountryHolidaysCache cache = createCache(mockConfig, Duration.ZERO);
+        HolidayDataset stale = HolidayDataset.of(new HolidayKey("AT", year), new CountryHoliday[]{new CountryHoliday(year + "-01-01", "Holiday 1")});
+        HolidayDataset fresh = HolidayDataset.of(new HolidayKey("AT", year), new CountryHoliday[]{
+                new CountryHoliday(year + "-01-01", "Holiday 1"), new CountryHoliday(year + "-01-06", "Holiday 2")});
+        Sinks.One<HolidayDataset> reload = Sinks.one();
+        Mockito.doReturn(Mono.just(stale), reload.asMono()).when(mockConfig).fetchHolidayDataset("AT", year);
+
+        /// method calls: the first loads and, as the entry is due at once, starts a refresh; the second is served the stale entry
+        assertEquals(1, cache.get("AT", year).block().size());
+        assertTrue(cache.isRefreshDue(new HolidayKey("AT", year)));
+        assertEquals(1, cache.get("AT", year).block().size());
+
+        /// verify if the refreshed dataset replaces the entry once the reload completes
+        reload.tryEmitValue(fresh);
+        assertEquals(2, cache.getIfPresent(new HolidayKey("AT", year)).size());
+        assertEquals(List.of(new HolidayKey("AT", year)), cache.hotKeys(Duration.ofHours(1)));
+        Mockito.verify(mockConfig, Mockito.times(2)).fetchHolidayDataset("AT", year);
+
+        /// verify if entries are not due before refresh-after
+        CountryHolidaysCache laterRefresh = createCache(mockConfig, Duration.ofHours(5));
+        laterRefresh.get("AT", year).block();
+        assertFalse(laterRefresh.isRefreshDue(new HolidayKey("AT", year)));
+    }
+
+    /**
+     * Unit test for single-flight loading.
+     * This test verifies that concurrent misses for the same key share one call to the external API and its result.
+     */
+    @Test
+    public void singleFlightTest() throws Exception {
+
+        /// Initial setup
+        ExternalAPIClientConfig mockConfig = Mockito.mock(ExternalAPIClientConfig.class);
+        CountryHolidaysCache cache = createCache(mockConfig, Duration.ofHours(5));
+        HolidayDataset dataset = HolidayDataset.of(new HolidayKey("AT", 2020), new CountryHoliday[]{new CountryHoliday("2020-01-01", "Holiday 1")});
+        Mockito.doReturn(Mono.just(dataset).delayElement(Duration.ofMillis(200))).when(mockConfig).fetchHolidayDataset("AT", 2020);
+        int callers = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        /// method calls, all released at once
+        List<Future<HolidayDataset>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) results.add(executor.submit(() -> {
+            start.await();
+            return cache.get("AT", 2020).block();
+        }));
+        start.countDown();
+
+        /// verify if every caller got the dataset from a single upstream call
+        try {
+            for (Future<HolidayDataset> result : results) assertSame(dataset, result.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        Mockito.verify(mockConfig, Mockito.times(1)).fetchHolidayDataset("AT", 2020);
+    }
+
+    /**
+     * Creates a cache backed by the given client and an in-memory snapshot store.
+     *
+     * @param clientConfig The client of the external API
+     * @param refreshAfter The age after which current year entries are refreshed
+     * @return The cache
+     */
+    private CountryHolidaysCache createCache(ExternalAPIClientConfig clientConfig, Duration refreshAfter) {
+        CountryHolidaysCache cache = new CountryHolidaysCache(1000, Duration.ofHours(6), refreshAfter, 2, Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(cache, "clientConfig", clientConfig);
+        ReflectionTestUtils.setField(cache, "snapshotStore", new HolidaySnapshotStore());
+        return cache;
+    }
+}
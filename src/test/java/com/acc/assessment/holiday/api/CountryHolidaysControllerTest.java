@@ -0,0 +1,182 @@
+package com.acc.assessment.holiday.api;
+
+import com.acc.assessment.holiday.api.cache.CountryHolidaysCache;
+import com.acc.assessment.holiday.api.client.ExternalAPIClientConfig;
+import com.acc.assessment.holiday.api.exception.NoDataException;
+import com.acc.assessment.holiday.api.model.BatchQuery;
+import com.acc.assessment.holiday.api.model.CountryHoliday;
+import com.acc.assessment.holiday.api.model.HolidayDataset;
+import com.acc.assessment.holiday.api.model.HolidayKey;
+import com.acc.assessment.holiday.api.validation.Validation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+
+import java.time.Year;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class CountryHolidaysControllerTest {
+
+    private final int currentYear = Year.now().getValue();
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    CountryHolidaysCache cache;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private ExternalAPIClientConfig clientConfig;
+
+    @BeforeEach
+    public void saveClientConfig() {
+        clientConfig = (ExternalAPIClientConfig) ReflectionTestUtils.getField(cache, "clientConfig");
+        cache.invalidateAll();
+    }
+
+    @AfterEach
+    public void restoreClientConfig() {
+        ReflectionTestUtils.setField(cache, "clientConfig", clientConfig);
+        cache.invalidateAll();
+    }
+
+    /**
+     * Unit test for the previous and next holidays endpoints.
+     * This test verifies that the holidays nearest to the anchor date are returned and that an invalid count is rejected.
+     */
+    @Test
+    public void previousAndNextHolidaysTest() throws Exception {
+
+        /// Initial setup
+        ExternalAPIClientConfig mockConfig = Mockito.mock(ExternalAPIClientConfig.class);
+        ReflectionTestUtils.setField(cache, "clientConfig", mockConfig);
+        Mockito.doReturn(Mono.just(HolidayDataset.of(new HolidayKey("AT", currentYear), new CountryHoliday[]{
+                        new CountryHoliday(currentYear + "-01-01", "New Year's Day"),
+                        new CountryHoliday(currentYear + "-01-06", "Epiphany"),
+                        new CountryHoliday(currentYear + "-12-25", "Christmas Day")})))
+                .when(mockConfig).fetchHolidayDataset("AT", currentYear);
+
+        /// verify if results match
+        mockMvc.perform(get("/country/holidays/previous").param("countryCode", "AT").param("count", "2").param("date", currentYear + "-06-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].date").value(contains(currentYear + "-01-06", currentYear + "-01-01")));
+        mockMvc.perform(get("/country/holidays/next").param("countryCode", "AT").param("count", "1").param("date", currentYear + "-06-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].date").value(contains(currentYear + "-12-25")));
+        mockMvc.perform(get("/country/holidays/next").param("countryCode", "AT").param("count", "101"))
+                .andExpect(status().isBadRequest());
+
+        /// verify if the requests were timed under their method and country bucket, without the country code as a tag
+        Timer timer = meterRegistry.get("holiday.service.requests")
+                .tags("method", "nextHolidays", "countries", "1", "outcome", "success").timer();
+        assertTrue(timer.count() >= 1);
+        assertTrue(meterRegistry.find("holiday.service.requests").timers().stream()
+                .noneMatch(meter -> meter.getId().getTags().stream().anyMatch(tag -> tag.getValue().equals("AT"))));
+
+    }
+
+    /**
+     * Unit test for the batch endpoint limits.
+     * This test verifies that a batch needing more than the allowed number of distinct datasets is rejected with 400,
+     * while repeated datasets are only counted once.
+     */
+    @Test
+    public void batchLimitTest() throws Exception {
+
+        /// Initial setup
+        String[] countryCodes = IntStream.range(0, Validation.MAX_BATCH_DATASETS + 1)
+                .mapToObj(i -> "" + (char) ('A' + i / 26) + (char) ('A' + i % 26)).toArray(String[]::new);
+        String[] half = Arrays.copyOf(countryCodes, countryCodes.length / 2 + 1);
+        BatchQuery allCodes = new BatchQuery(BatchQuery.Type.PUBLIC_HOLIDAYS, null, countryCodes, null, null, currentYear);
+        BatchQuery halfThisYear = new BatchQuery(BatchQuery.Type.PUBLIC_HOLIDAYS, null, half, null, null, currentYear);
+        BatchQuery halfNextYear = new BatchQuery(BatchQuery.Type.PUBLIC_HOLIDAYS, null, half, null, null, currentYear + 1);
+
+        /// verify if too many datasets are rejected, in one query or across queries
+        mockMvc.perform(post("/countries/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(allCodes))))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/countries/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(halfThisYear, halfNextYear))))
+                .andExpect(status().isBadRequest());
+
+        /// verify if repeated datasets are counted once
+        assertTrue(Validation.isBatchValid(List.of(halfThisYear, halfThisYear, halfThisYear)));
+
+    }
+
+    /**
+     * Unit test for the exportHolidays endpoint.
+     * This test verifies that every holiday is written as its own NDJSON line, in country and then year order,
+     * and that years without data are skipped.
+     */
+    @Test
+    public void exportHolidaysTest() throws Exception {
+
+        /// Initial setup
+        ExternalAPIClientConfig mockConfig = Mockito.mock(ExternalAPIClientConfig.class);
+        ReflectionTestUtils.setField(cache, "clientConfig", mockConfig);
+        Mockito.doReturn(Mono.just(HolidayDataset.of(new HolidayKey("AT", currentYear), new CountryHoliday[]{
+                        new CountryHoliday(currentYear + "-01-01", "New Year's Day"),
+                        new CountryHoliday(currentYear + "-12-25", "Christmas Day")})))
+                .when(mockConfig).fetchHolidayDataset("AT", currentYear);
+        Mockito.doReturn(Mono.error(new NoDataException("No data")))
+                .when(mockConfig).fetchHolidayDataset("AT", currentYear + 1);
+        Mockito.doReturn(Mono.just(HolidayDataset.of(new HolidayKey("NL", currentYear), new CountryHoliday[]{
+                        new CountryHoliday(currentYear + "-04-27", "King's Day")})))
+                .when(mockConfig).fetchHolidayDataset("NL", currentYear);
+        Mockito.doReturn(Mono.error(new NoDataException("No data")))
+                .when(mockConfig).fetchHolidayDataset("NL", currentYear + 1);
+
+        /// request the export and wait for the streamed body
+        MvcResult started = mockMvc.perform(get("/countries/holidays/export")
+                        .param("countryCodes", "AT", "NL")
+                        .param("fromYear", String.valueOf(currentYear))
+                        .param("toYear", String.valueOf(currentYear + 1)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        started.getAsyncResult();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        /// verify if each holiday is on its own line, in order
+        List<String> lines = body.lines().toList();
+        assertEquals(3, lines.size());
+        assertEquals(List.of(currentYear + "-01-01", currentYear + "-12-25", currentYear + "-04-27"),
+                lines.stream().map(line -> line.replaceAll(".*\"date\":\"([^\"]+)\".*", "$1")).toList());
+
+    }
+}
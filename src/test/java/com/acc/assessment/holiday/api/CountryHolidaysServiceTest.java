@@ -1,21 +1,46 @@
 package com.acc.assessment.holiday.api;
 
+import com.acc.assessment.holiday.api.cache.CountryHolidaysCache;
 import com.acc.assessment.holiday.api.client.ExternalAPIClientConfig;
 import com.acc.assessment.holiday.api.exception.ExternalApiException;
 import com.acc.assessment.holiday.api.exception.NoDataException;
+import com.acc.assessment.holiday.api.exception.UpstreamUnavailableException;
+import com.acc.assessment.holiday.api.fixture.HolidayFixtures;
+import com.acc.assessment.holiday.api.model.BatchQuery;
+import com.acc.assessment.holiday.api.model.BatchResult;
 import com.acc.assessment.holiday.api.model.CountryHoliday;
+import com.acc.assessment.holiday.api.model.HolidayDataset;
+import com.acc.assessment.holiday.api.model.HolidayKey;
 import com.acc.assessment.holiday.api.service.CountryHolidaysService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
+import java.net.ConnectException;
+import java.net.URI;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.Year;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 public class CountryHolidaysServiceTest {
@@ -25,6 +50,26 @@ public class CountryHolidaysServiceTest {
     @Autowired
     CountryHolidaysService service;
 
+    @Autowired
+    CountryHolidaysCache cache;
+
+    private ExternalAPIClientConfig clientConfig;
+
+    @BeforeEach
+    public void saveClientConfig() {
+        clientConfig = (ExternalAPIClientConfig) ReflectionTestUtils.getField(cache, "clientConfig");
+        cache.invalidateAll();
+    }
+
+    /**
+     * Restores the real client after each test, also when its assertions failed, so mocks do not leak into other tests.
+     */
+    @AfterEach
+    public void restoreClientConfig() {
+        ReflectionTestUtils.setField(cache, "clientConfig", clientConfig);
+        cache.invalidateAll();
+    }
+
     /**
      * Unit test for getLast3CountryHolidays method.
      * This test verifies that the method correctly returns the last three holidays for a given country.
@@ -33,13 +78,11 @@ public class CountryHolidaysServiceTest {
     public void getLast3CountryHolidaysTest() {
 
         /// Initial setup
-        ExternalAPIClientConfig mockConfig = Mockito.mock(ExternalAPIClientConfig.class);
-        ExternalAPIClientConfig clientConfig = (ExternalAPIClientConfig) ReflectionTestUtils.getField(service, "clientConfig");
-        ReflectionTestUtils.setField(service, "clientConfig", mockConfig);
+        ExternalAPIClientConfig mockConfig = mockClientConfig();
         List<String> actualResult = new ArrayList<String>();
-        List<String> expectedResult = new ArrayList<String>(List.of("2025-01-01", "2025-01-06", "2024-12-26"));
+        List<String> expectedResult = new ArrayList<String>(List.of(currentYear + "-01-01", currentYear + "-01-06", (currentYear - 1) + "-12-26"));
         Collections.sort(expectedResult);
-        Mockito.doReturn(createCountryHolidayArray()).when(mockConfig).getCountryHolidays("AT", currentYear);
+        Mockito.doReturn(Mono.just(HolidayDataset.of(new HolidayKey("AT", currentYear), createCountryHolidayArray()))).when(mockConfig).fetchHolidayDataset("AT", currentYear);
 
         /// method call and dates extraction
         for (CountryHoliday ch : service.getLast3CountryHolidays("AT", currentYear)) actualResult.add(ch.date());
@@ -48,9 +91,6 @@ public class CountryHolidaysServiceTest {
         /// verify if results match
         assertEquals(actualResult, expectedResult);
 
-        /// clear mock data for further integration tests
-        ReflectionTestUtils.setField(service, "clientConfig", clientConfig);
-
     }
 
     /**
@@ -75,15 +115,21 @@ public class CountryHolidaysServiceTest {
     /**
      * Unit test for the getCommonHolidays method.
      * This test verifies that the method correctly retrieves deduplicated common holidays between two countries for a given year.
+     * The recorded responses are replayed for the current year, so the dates keep the recorded month and day.
      */
     @Test
     public void getCommonHolidaysTest() {
 
         /// Initial setup
+        ExternalAPIClientConfig mockConfig = mockClientConfig();
+        HolidayFixtures fixtures = HolidayFixtures.load();
+        for (String countryCode : List.of("US", "NL"))
+            Mockito.doReturn(Mono.just(HolidayDataset.of(new HolidayKey(countryCode, currentYear), fixtures.holidays(countryCode, currentYear))))
+                    .when(mockConfig).fetchHolidayDataset(countryCode, currentYear);
         Map<String, String> date1Map = new HashMap<>(Map.of("US", "New Year's Day", "NL", "Nieuwjaarsdag"));
         Map<String, String> date2Map = new HashMap<>(Map.of("US", "Christmas Day", "NL", "Eerste Kerstdag"));
         Map<String, String> date3Map = new HashMap<>(Map.of("US", "Good Friday", "NL", "Goede Vrijdag"));
-        Map<String, Map<String, String>> expectedResult = new HashMap<>(Map.of("2025-01-01", date1Map, "2025-12-25", date2Map, "2025-04-18", date3Map));
+        Map<String, Map<String, String>> expectedResult = new HashMap<>(Map.of(currentYear + "-01-01", date1Map, currentYear + "-12-25", date2Map, currentYear + "-04-18", date3Map));
 
         /// method call
         Map<String, Map<String, String>> actualResult = service.getCommonHolidays("US", "NL", currentYear);
@@ -108,6 +154,312 @@ public class CountryHolidaysServiceTest {
         assertThrows(ExternalApiException.class, () -> service.getLast3CountryHolidays("AT", 0));
     }
 
+    /**
+     * Unit test for the getBatchResults method.
+     * This test verifies that queries sharing a dataset fetch it once, and that results are returned in request order.
+     */
+    @Test
+    public void getBatchResultsTest() {
+
+        /// Initial setup
+        ExternalAPIClientConfig mockConfig = mockClientConfig();
+        Mockito.doReturn(Mono.just(HolidayDataset.of(new HolidayKey("AT", currentYear), createCountryHolidayArray()))).when(mockConfig).fetchHolidayDataset("AT", currentYear);
+        List<BatchQuery> queries = List.of(
+                new BatchQuery(BatchQuery.Type.PUBLIC_HOLIDAYS, null, new String[]{"AT"}, null, null, currentYear),
+                new BatchQuery(BatchQuery.Type.PUBLIC_HOLIDAYS, null, new String[]{"at"}, null, null, currentYear));
+
+        /// method call
+        List<BatchResult> actualResult = service.getBatchResults(queries);
+
+        /// verify if results match and the dataset was fetched once
+        assertEquals(2, actualResult.size());
+        assertEquals(Map.of("AT", 0), actualResult.get(0).result());
+        assertEquals(Map.of("AT", 0), actualResult.get(1).result());
+        assertNull(actualResult.get(1).error());
+        Mockito.verify(mockConfig, Mockito.times(1)).fetchHolidayDataset("AT", currentYear);
+
+    }
+
+    /**
+     * Unit test for the mapping of upstream failures.
+     * This test verifies that server errors and connection failures of the external API are reported as unavailability,
+     * while input it rejects is reported as invalid.
+     */
+    @Test
+    public void upstreamErrorMappingTest() {
+
+        /// Initial setup
+        ExternalAPIClientConfig mockConfig = mockClientConfig();
+        Mockito.doReturn(Mono.error(WebClientResponseException.create(503, "Service Unavailable", null, null, null)))
+                .when(mockConfig).fetchHolidayDataset("AT", currentYear);
+        Mockito.doReturn(Mono.error(new WebClientRequestException(new ConnectException("Connection refused"), HttpMethod.GET, URI.create("http://localhost"), new HttpHeaders())))
+                .when(mockConfig).fetchHolidayDataset("AT", currentYear + 1);
+        Mockito.doReturn(Mono.error(WebClientResponseException.create(400, "Bad Request", null, null, null)))
+                .when(mockConfig).fetchHolidayDataset("AT", currentYear + 2);
+
+        ///  verify if valid exceptions thrown
+        assertThrows(UpstreamUnavailableException.class, () -> service.getCountryHolidays("AT", currentYear));
+        assertThrows(UpstreamUnavailableException.class, () -> service.getCountryHolidays("AT", currentYear + 1));
+        assertThrows(ExternalApiException.class, () -> service.getCountryHolidays("AT", currentYear + 2));
+
+    }
+
+    /**
+     * Unit test for the deadline of fan-out requests.
+     * This test verifies that a request not answered within country.holidays.fanout.timeout fails with 503 rather than 400.
+     */
+    @Test
+    public void fanOutDeadlineTest() {
+
+        /// Initial setup
+        ExternalAPIClientConfig mockConfig = mockClientConfig();
+        for (String countryCode : List.of("AT", "NL"))
+            Mockito.doReturn(Mono.just(HolidayDataset.of(new HolidayKey(countryCode, currentYear), createCountryHolidayArray())).delayElement(Duration.ofSeconds(5)))
+                    .when(mockConfig).fetchHolidayDataset(countryCode, currentYear);
+        Duration fanOutTimeout = (Duration) ReflectionTestUtils.getField(service, "fanOutTimeout");
+        ReflectionTestUtils.setField(service, "fanOutTimeout", Duration.ofMillis(200));
+
+        /// verify if the missed deadline is reported as unavailability
+        try {
+            assertThrows(UpstreamUnavailableException.class, () -> service.getPublicHolidays(new String[]{"AT"}, currentYear));
+            assertThrows(UpstreamUnavailableException.class, () -> service.getCommonHolidays(new String[]{"AT", "NL"}, currentYear, currentYear));
+        } finally {
+            ReflectionTestUtils.setField(service, "fanOutTimeout", fanOutTimeout);
+        }
+
+    }
+
+    /**
+     * Unit test for the fan-out of getPublicHolidays.
+     * This test verifies that countries are fetched concurrently but never more than country.holidays.fanout.concurrency at a time,
+     * and that the first failing country fails the request while the countries already fetched stay cached.
+     */
+    @Test
+    public void fanOutConcurrencyTest() {
+
+        /// Initial setup
+        ExternalAPIClientConfig mockConfig = mockClientConfig();
+        int concurrency = (int) ReflectionTestUtils.getField(service, "fanOutConcurrency");
+        String[] countryCodes = HolidayFixtures.COUNTRY_CODES.subList(0, concurrency * 3).toArray(new String[0]);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        Mockito.doAnswer(invocation -> {
+            HolidayDataset dataset = HolidayDataset.of(new HolidayKey(invocation.getArgument(0), currentYear), createCountryHolidayArray());
+            return Mono.defer(() -> {
+                        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                        return Mono.just(dataset).delayElement(Duration.ofMillis(50));
+                    })
+                    .doOnNext(value -> inFlight.decrementAndGet());
+        }).when(mockConfig).fetchHolidayDataset(Mockito.anyString(), Mockito.eq(currentYear));
+
+        /// verify if the fan-out is concurrent and bounded
+        assertEquals(countryCodes.length, service.getPublicHolidays(countryCodes, currentYear).size());
+        assertTrue(maxInFlight.get() > 1, "No concurrent fetches");
+        assertTrue(maxInFlight.get() <= concurrency, maxInFlight.get() + " fetches in flight");
+
+        /// verify if a failing country fails the request and the others stay cached
+        cache.invalidateAll();
+        Mockito.doReturn(Mono.error(WebClientResponseException.create(503, "Service Unavailable", null, null, null)).delaySubscription(Duration.ofMillis(100)))
+                .when(mockConfig).fetchHolidayDataset("AT", currentYear);
+        assertThrows(UpstreamUnavailableException.class, () -> service.getPublicHolidays(new String[]{"AD", "AL", "AT"}, currentYear));
+        assertNotNull(cache.getIfPresent(new HolidayKey("AD", currentYear)));
+        assertNotNull(cache.getIfPresent(new HolidayKey("AL", currentYear)));
+
+    }
+
+    /**
+     * Unit test for the exportHolidays method.
+     * This test verifies that a reader taking one dataset and closing the stream only causes as many upstream fetches
+     * as the fan-out allows, and that a full export returns every year in order.
+     */
+    @Test
+    public void exportHolidaysBackpressureTest() {
+
+        /// Initial setup
+        ExternalAPIClientConfig mockConfig = mockClientConfig();
+        AtomicInteger fetches = new AtomicInteger();
+        Mockito.doAnswer(invocation -> {
+            fetches.incrementAndGet();
+            return Mono.just(HolidayDataset.of(new HolidayKey("AT", invocation.getArgument(1)), createCountryHolidayArray()));
+        }).when(mockConfig).fetchHolidayDataset(Mockito.eq("AT"), Mockito.anyInt());
+        int fromYear = currentYear - 40;
+
+        /// read the first dataset of 40 and cancel
+        try (Stream<HolidayDataset> datasets = service.exportHolidays(new String[]{"AT"}, fromYear, currentYear - 1).toStream(1)) {
+            assertEquals(fromYear, datasets.iterator().next().key().year());
+        }
+
+        /// verify if only the fan-out was fetched ahead of the reader
+        assertTrue(fetches.get() <= 16, "Fetched " + fetches.get() + " of 40 datasets");
+
+        /// verify if a full export still returns every year in order
+        List<Integer> years = service.exportHolidays(new String[]{"AT"}, fromYear, currentYear - 1)
+                .map(dataset -> dataset.key().year()).collectList().block();
+        assertEquals(IntStream.range(fromYear, currentYear).boxed().toList(), years);
+
+    }
+
+    /**
+     * Unit test for the getPreviousHolidays and getNextHolidays methods.
+     * This test verifies that the binary-searched start excludes a holiday on the anchor date when walking back and includes it
+     * when walking forward, and that a year is only fetched when the previous one holds too few holidays.
+     */
+    @Test
+    public void previousAndNextHolidaysTest() {
+
+        /// Initial setup
+        ExternalAPIClientConfig mockConfig = mockClientConfig();
+        for (int year = 2019; year <= 2021; year++)
+            Mockito.doReturn(Mono.just(HolidayDataset.of(new HolidayKey("AT", year), new CountryHoliday[]{
+                            new CountryHoliday(year + "-01-01", "Holiday 1"),
+                            new CountryHoliday(year + "-05-01", "Holiday 2"),
+                            new CountryHoliday(year + "-12-25", "Holiday 3")})))
+                    .when(mockConfig).fetchHolidayDataset("AT", year);
+        LocalDate anchor = LocalDate.of(2020, 5, 1);
+
+        /// verify if the answer within the anchor year is found without fetching other years
+        assertEquals(List.of("2020-01-01"), service.getPreviousHolidays("AT", anchor, 1).stream().map(CountryHoliday::date).toList());
+        assertEquals(List.of("2020-05-01", "2020-12-25"), service.getNextHolidays("AT", anchor, 2).stream().map(CountryHoliday::date).toList());
+        Mockito.verify(mockConfig, Mockito.never()).fetchHolidayDataset("AT", 2019);
+        Mockito.verify(mockConfig, Mockito.never()).fetchHolidayDataset("AT", 2021);
+
+        /// verify if the walk continues into the neighbouring years when needed
+        assertEquals(List.of("2020-01-01", "2019-12-25", "2019-05-01"),
+                service.getPreviousHolidays("AT", anchor, 3).stream().map(CountryHoliday::date).toList());
+        assertEquals(List.of("2020-05-01", "2020-12-25", "2021-01-01"),
+                service.getNextHolidays("AT", anchor, 3).stream().map(CountryHoliday::date).toList());
+
+    }
+
+    /**
+     * Unit test for the year walk of getNextHolidays.
+     * This test verifies that the walk stops after country.holidays.year-walk.max-years years, and at the first year without data.
+     */
+    @Test
+    public void yearWalkLimitTest() {
+
+        /// Initial setup
+        ExternalAPIClientConfig mockConfig = mockClientConfig();
+        Mockito.doAnswer(invocation -> {
+            int year = invocation.getArgument(1);
+            return Mono.just(HolidayDataset.of(new HolidayKey("AT", year), new CountryHoliday[]{new CountryHoliday(year + "-07-01", "Holiday")}));
+        }).when(mockConfig).fetchHolidayDataset(Mockito.eq("AT"), Mockito.anyInt());
+        Mockito.doReturn(Mono.empty()).when(mockConfig).fetchHolidayDataset("AT", 2012);
+
+        /// verify if at most 5 years are walked
+        assertEquals(5, service.getNextHolidays("AT", LocalDate.of(2020, 1, 1), 100).size());
+        Mockito.verify(mockConfig, Mockito.times(5)).fetchHolidayDataset(Mockito.eq("AT"), Mockito.anyInt());
+
+        /// verify if a year without data ends the walk
+        assertEquals(List.of("2014-07-01", "2013-07-01"),
+                service.getPreviousHolidays("AT", LocalDate.of(2014, 12, 31), 100).stream().map(CountryHoliday::date).toList());
+
+    }
+
+    /**
+     * Unit test for the addBusinessDays method.
+     * This test verifies that business days are added and subtracted across year boundaries, up to the 1000 days
+     * the endpoints accept, for several countries at once.
+     */
+    @Test
+    public void addBusinessDaysTest() {
+
+        /// Initial setup
+        String[] countryCodes = new String[]{"US", "NL", "AT"};
+        Set<LocalDate> holidays = publicHolidays(replayFixtures(), countryCodes, 2015, 2025);
+        LocalDate date = LocalDate.of(2020, 12, 30);
+
+        /// verify if results match a day-by-day walk
+        for (int days : new int[]{1, 5, -5, 1000, -1000}) {
+            LocalDate expected = date;
+            for (int remaining = Math.abs(days); remaining > 0; ) {
+                expected = expected.plusDays(Integer.signum(days));
+                if (isBusinessDay(holidays, expected)) remaining--;
+            }
+            assertEquals(expected.toString(), service.addBusinessDays(countryCodes, date, days).to(), "days=" + days);
+        }
+        assertEquals(date.toString(), service.addBusinessDays(countryCodes, date, 0).to());
+
+    }
+
+    /**
+     * Unit test for the countBusinessDays method.
+     * This test verifies that business days are counted across a year boundary and over the 10 years the endpoints accept.
+     */
+    @Test
+    public void countBusinessDaysTest() {
+
+        /// Initial setup
+        String[] countryCodes = new String[]{"US", "NL", "AT"};
+        Set<LocalDate> holidays = publicHolidays(replayFixtures(), countryCodes, 2015, 2024);
+
+        /// verify if results match a day-by-day count
+        for (LocalDate[] range : new LocalDate[][]{
+                {LocalDate.of(2020, 12, 1), LocalDate.of(2021, 1, 31)},
+                {LocalDate.of(2015, 1, 1), LocalDate.of(2024, 12, 31)}}) {
+            int expected = 0;
+            for (LocalDate day = range[0]; !day.isAfter(range[1]); day = day.plusDays(1))
+                if (isBusinessDay(holidays, day)) expected++;
+            assertEquals(expected, service.countBusinessDays(countryCodes, range[0], range[1]).businessDays(), range[0] + ".." + range[1]);
+        }
+
+    }
+
+    /**
+     * Serves the recorded external API responses for every country and year through a mocked client.
+     *
+     * @return The fixtures being replayed
+     */
+    private HolidayFixtures replayFixtures() {
+        HolidayFixtures fixtures = HolidayFixtures.load();
+        Mockito.doAnswer(invocation -> {
+            String countryCode = invocation.getArgument(0);
+            int year = invocation.getArgument(1);
+            return Mono.just(HolidayDataset.of(new HolidayKey(countryCode, year), fixtures.holidays(countryCode, year)));
+        }).when(mockClientConfig()).fetchHolidayDataset(Mockito.anyString(), Mockito.anyInt());
+        return fixtures;
+    }
+
+    /**
+     * Collects the recorded public holidays of several countries over a range of years.
+     *
+     * @param fixtures     The recorded holidays
+     * @param countryCodes The countries
+     * @param fromYear     The first year
+     * @param toYear       The last year, inclusive
+     * @return The dates that are a public holiday in any of the countries
+     */
+    private Set<LocalDate> publicHolidays(HolidayFixtures fixtures, String[] countryCodes, int fromYear, int toYear) {
+        Set<LocalDate> holidays = new HashSet<>();
+        for (int year = fromYear; year <= toYear; year++)
+            for (String countryCode : countryCodes)
+                for (CountryHoliday holiday : fixtures.holidays(countryCode, year))
+                    if (holiday.isPublicHoliday()) holidays.add(holiday.getLocalDate());
+        return holidays;
+    }
+
+    /**
+     * Checks if a day is neither a weekend day nor one of the given holidays.
+     *
+     * @param holidays The public holidays
+     * @param day      The day to check
+     * @return true if the day is a business day
+     */
+    private boolean isBusinessDay(Set<LocalDate> holidays, LocalDate day) {
+        return day.getDayOfWeek() != DayOfWeek.SATURDAY && day.getDayOfWeek() != DayOfWeek.SUNDAY && !holidays.contains(day);
+    }
+
+    /**
+     * Replaces the client of the holiday cache with a mock; {@link #restoreClientConfig()} puts the real one back.
+     *
+     * @return The mock client
+     */
+    private ExternalAPIClientConfig mockClientConfig() {
+        ExternalAPIClientConfig mockConfig = Mockito.mock(ExternalAPIClientConfig.class);
+        ReflectionTestUtils.setField(cache, "clientConfig", mockConfig);
+        return mockConfig;
+    }
+
     /**
      * Creates an array of CountryHoliday objects.
      * This method simulates the creation of holiday data.
@@ -0,0 +1,72 @@
+package com.acc.assessment.holiday.api;
+
+import com.acc.assessment.holiday.api.model.CountryHoliday;
+import com.acc.assessment.holiday.api.model.HolidayDataset;
+import com.acc.assessment.holiday.api.model.HolidayDateIndex;
+import com.acc.assessment.holiday.api.model.HolidayKey;
+import com.acc.assessment.holiday.api.model.HolidayType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HolidayDateIndexTest {
+
+    /**
+     * Unit test for HolidayDateIndex.intersect.
+     * This test verifies that only days present in every index remain, including the first and the leap day.
+     */
+    @Test
+    public void intersectTest() {
+
+        /// Initial setup
+        HolidayDateIndex index1 = HolidayDateIndex.empty();
+        HolidayDateIndex index2 = HolidayDateIndex.empty();
+        HolidayDateIndex index3 = HolidayDateIndex.empty();
+        for (int day : new int[]{1, 64, 65, 200, 366}) index1.add(day);
+        for (int day : new int[]{1, 65, 199, 366}) index2.add(day);
+        for (int day : new int[]{1, 64, 65, 366}) index3.add(day);
+        List<Integer> actualResult = new ArrayList<>();
+
+        /// method call
+        HolidayDateIndex.intersect(List.of(index1, index2, index3)).forEachDayOfYear(actualResult::add);
+
+        /// verify if results match
+        assertEquals(List.of(1, 65, 366), actualResult);
+        assertTrue(HolidayDateIndex.intersect(List.of(index1, HolidayDateIndex.empty())).isEmpty());
+    }
+
+    /**
+     * Unit test for HolidayDataset.of.
+     * This test verifies that holidays on the same day are indexed once with their local names joined.
+     */
+    @Test
+    public void datasetTest() {
+
+        /// Initial setup
+        CountryHoliday[] holidays = new CountryHoliday[]{
+                new CountryHoliday("2024-12-25", "Kerstdag", "Christmas Day", "NL", true, true, null, null, new String[]{"Public"}),
+                new CountryHoliday("2024-12-25", "kerstdag", "Christmas Day", "NL", true, true, null, null, new String[]{"Public"}),
+                new CountryHoliday("2024-12-25", "Kerstfeest", "Christmas", "NL", true, true, null, null, new String[]{"Observance"}),
+                new CountryHoliday("2024-02-29", "Schrikkeldag", "Leap Day", "NL", true, true, null, null, new String[]{"Observance"})};
+
+        /// method call
+        HolidayDataset dataset = HolidayDataset.of(new HolidayKey("nl", 2024), holidays);
+
+        /// verify if results match
+        assertEquals("NL", dataset.key().countryCode());
+        assertTrue(dataset.dateIndex().contains(60));
+        assertTrue(dataset.dateIndex().contains(360));
+        assertFalse(dataset.dateIndex().contains(359));
+        assertEquals("Kerstdag, Kerstfeest", dataset.localNameOn(360));
+        assertEquals("2024-02-29", dataset.date(0));
+        assertEquals(3, dataset.dayOfWeek(0));
+        assertTrue(dataset.hasType(1, HolidayType.PUBLIC));
+        assertFalse(dataset.hasType(3, HolidayType.PUBLIC));
+        assertEquals(1, dataset.firstOnOrAfter((int) LocalDate.of(2024, 3, 1).toEpochDay()));
+        assertEquals(2, dataset.countNonWeekendPublicHolidays());
+    }
+}
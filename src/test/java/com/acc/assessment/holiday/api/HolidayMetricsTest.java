@@ -0,0 +1,111 @@
+package com.acc.assessment.holiday.api;
+
+import com.acc.assessment.holiday.api.exception.UpstreamOverloadedException;
+import com.acc.assessment.holiday.api.exception.UpstreamUnavailableException;
+import com.acc.assessment.holiday.api.metrics.HolidayMetrics;
+import com.acc.assessment.holiday.api.model.CountryHoliday;
+import com.acc.assessment.holiday.api.model.HolidayDataset;
+import com.acc.assessment.holiday.api.model.HolidayKey;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HolidayMetricsTest {
+
+    /**
+     * Unit test for HolidayMetrics.timeService.
+     * This test verifies that a service call records one timer tagged with its method, country bucket and outcome,
+     * and that any number of countries falls into one of the four bounded buckets.
+     */
+    @Test
+    public void timeServiceTest() {
+
+        /// Initial setup
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        HolidayMetrics metrics = new HolidayMetrics(registry);
+
+        /// method calls
+        metrics.timeService("publicHolidays", 3, Mono.just("result")).block();
+        assertThrows(UpstreamUnavailableException.class,
+                () -> metrics.timeService("publicHolidays", 3, Mono.error(new UpstreamUnavailableException("down"))).block());
+        for (int countryCount : new int[]{0, 1, 10, 11, 50, 51, 250, 100000})
+            metrics.timeService("sharedHolidays", countryCount, Mono.just("result")).block();
+
+        /// verify if the request recorded the expected timers and tags
+        Timer success = registry.get("holiday.service.requests")
+                .tags("method", "publicHolidays", "countries", "2-10", "outcome", "success").timer();
+        Timer error = registry.get("holiday.service.requests")
+                .tags("method", "publicHolidays", "countries", "2-10", "outcome", "error").timer();
+        assertEquals(1, success.count());
+        assertTrue(success.totalTime(TimeUnit.NANOSECONDS) > 0);
+        assertEquals(1, error.count());
+
+        /// verify if country counts are bucketed
+        assertEquals(2, countOf(registry, "sharedHolidays", "1"));
+        assertEquals(1, countOf(registry, "sharedHolidays", "2-10"));
+        assertEquals(2, countOf(registry, "sharedHolidays", "11-50"));
+        assertEquals(3, countOf(registry, "sharedHolidays", "51+"));
+        Set<String> buckets = registry.find("holiday.service.requests").timers().stream()
+                .map(timer -> timer.getId().getTag("countries")).collect(Collectors.toSet());
+        assertEquals(Set.of("1", "2-10", "11-50", "51+"), buckets);
+        assertEquals(2 * 4 * 2, registry.find("holiday.service.requests").timers().size());
+    }
+
+    /**
+     * Unit test for the upstream and error metrics of HolidayMetrics.
+     * This test verifies that upstream calls are tagged with their outcome, payload sizes are recorded
+     * and error responses are counted by type.
+     */
+    @Test
+    public void upstreamAndErrorMetricsTest() {
+
+        /// Initial setup
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        HolidayMetrics metrics = new HolidayMetrics(registry);
+        HolidayDataset dataset = HolidayDataset.of(new HolidayKey("AT", 2025), new CountryHoliday[]{
+                new CountryHoliday("2025-01-01", "Neujahr"),
+                new CountryHoliday("2025-12-25", "Christtag")});
+
+        /// method calls
+        metrics.timeUpstream(Mono.just(dataset)).block();
+        metrics.timeUpstream(Mono.just(HolidayDataset.of(new HolidayKey("AT", 1900), new CountryHoliday[0]))).block();
+        metrics.timeUpstream(Mono.<HolidayDataset>error(new WebClientRequestException(new IOException("refused"), HttpMethod.GET,
+                URI.create("https://example.org"), HttpHeaders.EMPTY))).onErrorResume(e -> Mono.empty()).block();
+        metrics.timeUpstream(Mono.<HolidayDataset>error(new UpstreamOverloadedException("shed", Duration.ofSeconds(1))))
+                .onErrorResume(e -> Mono.empty()).block();
+        metrics.recordUpstreamPayload(1234);
+        metrics.recordUpstreamPayload(-1);
+        metrics.countError("invalid_input");
+        metrics.countError("invalid_input");
+
+        /// verify if results match
+        assertEquals(1, registry.get("holiday.upstream.requests").tag("outcome", "success").timer().count());
+        assertEquals(1, registry.get("holiday.upstream.requests").tag("outcome", "empty").timer().count());
+        assertEquals(1, registry.get("holiday.upstream.requests").tag("outcome", "unreachable").timer().count());
+        assertEquals(1, registry.get("holiday.upstream.requests").tag("outcome", "shed").timer().count());
+        assertEquals(0, registry.get("holiday.upstream.requests").tag("outcome", "server_error").timer().count());
+        assertEquals(2, registry.get("holiday.upstream.payload.holidays").summary().count());
+        assertEquals(2, registry.get("holiday.upstream.payload.holidays").summary().totalAmount());
+        assertEquals(1, registry.get("holiday.upstream.payload.size").summary().count());
+        assertEquals(1234, registry.get("holiday.upstream.payload.size").summary().totalAmount());
+        assertEquals(2, registry.get("holiday.errors").tag("type", "invalid_input").counter().count());
+    }
+
+    private static long countOf(SimpleMeterRegistry registry, String method, String bucket) {
+        return registry.find("holiday.service.requests").tags("method", method, "countries", bucket, "outcome", "success")
+                .timers().stream().mapToLong(Timer::count).sum();
+    }
+}
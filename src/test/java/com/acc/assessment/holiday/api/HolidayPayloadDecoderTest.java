@@ -0,0 +1,73 @@
+package com.acc.assessment.holiday.api;
+
+import com.acc.assessment.holiday.api.client.HolidayPayloadDecoder;
+import com.acc.assessment.holiday.api.model.CountryHoliday;
+import com.acc.assessment.holiday.api.model.HolidayDataset;
+import com.acc.assessment.holiday.api.model.HolidayKey;
+import com.acc.assessment.holiday.api.model.HolidayType;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HolidayPayloadDecoderTest {
+
+    private static final String PAYLOAD = """
+            [{"date":"2025-12-25","localName":"Eerste Kerstdag","name":"Christmas Day","countryCode":"NL","fixed":true,"global":true,"counties":null,"launchYear":null,"types":["Public"]},
+             {"date":"2025-01-01","localName":"Nieuwjaarsdag","name":"New Year's Day","countryCode":"NL","fixed":true,"global":false,"counties":["NL-NH"],"launchYear":1967,"types":["Public","Bank"],"extra":{"a":[1]}}]
+            """;
+
+    /**
+     * Unit test for HolidayPayloadDecoder.decode.
+     * This test verifies that holidays are sorted by date, types become a mask and detail fields are only kept on request.
+     */
+    @Test
+    public void decodeTest() {
+
+        /// method call
+        HolidayPayloadDecoder decoder = new HolidayPayloadDecoder();
+        HolidayDataset dataset = decode(decoder, PAYLOAD, false);
+        HolidayDataset fullDetail = decode(decoder, PAYLOAD, true);
+
+        /// verify if results match
+        assertEquals(2, dataset.size());
+        assertEquals("2025-01-01", dataset.date(0));
+        assertEquals("New Year's Day", dataset.name(0));
+        assertTrue(dataset.hasType(0, HolidayType.BANK));
+        assertFalse(dataset.hasType(1, HolidayType.BANK));
+        assertNull(dataset.toCountryHoliday(0).global());
+        assertNull(dataset.toCountryHoliday(0).counties());
+        CountryHoliday detailed = fullDetail.toCountryHoliday(0);
+        assertEquals(false, detailed.global());
+        assertArrayEquals(new String[]{"NL-NH"}, detailed.counties());
+        assertEquals(1967, detailed.launchYear());
+    }
+
+    /**
+     * Unit test for HolidayPayloadDecoder string pooling and error handling.
+     * This test verifies that names repeated across payloads share one instance and that malformed payloads are rejected.
+     */
+    @Test
+    public void poolingAndErrorsTest() {
+
+        /// Initial setup
+        HolidayPayloadDecoder decoder = new HolidayPayloadDecoder();
+
+        /// method call
+        HolidayDataset first = decode(decoder, PAYLOAD, false);
+        HolidayDataset second = decode(decoder, PAYLOAD, true);
+
+        /// verify if results match
+        assertSame(first.name(1), second.name(1));
+        assertEquals(0, decode(decoder, "[]", false).size());
+        assertThrows(DecodingException.class, () -> decode(decoder, "{}", false));
+        assertThrows(DecodingException.class, () -> decode(decoder, "[{\"name\":\"No date\"}]", false));
+    }
+
+    private HolidayDataset decode(HolidayPayloadDecoder decoder, String json, boolean fullDetail) {
+        return decoder.decode(new HolidayKey("NL", 2025), new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), fullDetail);
+    }
+}
@@ -0,0 +1,60 @@
+package com.acc.assessment.holiday.api;
+
+import com.acc.assessment.holiday.api.cache.CountryHolidaysCache;
+import com.acc.assessment.holiday.api.cache.HolidayRefreshScheduler;
+import com.acc.assessment.holiday.api.model.CountryHoliday;
+import com.acc.assessment.holiday.api.model.HolidayDataset;
+import com.acc.assessment.holiday.api.model.HolidayKey;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.List;
+
+public class HolidayRefreshSchedulerTest {
+
+    private static final HolidayKey KEY = new HolidayKey("AT", 2025);
+
+    /**
+     * Unit test for the scheduled refresh and prefetch rules.
+     * This test verifies that due entries are refreshed, that the next year is prefetched from December 15 on,
+     * and that the previous year is prefetched while fewer than 3 holidays have passed this year.
+     */
+    @Test
+    public void refreshAndPrefetchTest() {
+
+        /// Initial setup
+        CountryHolidaysCache cache = Mockito.mock(CountryHolidaysCache.class);
+        HolidayRefreshScheduler scheduler = new HolidayRefreshScheduler();
+        ReflectionTestUtils.setField(scheduler, "holidaysCache", cache);
+        ReflectionTestUtils.setField(scheduler, "hotWindow", Duration.ofHours(1));
+        ReflectionTestUtils.setField(scheduler, "nextYearFrom", MonthDay.of(12, 15));
+        Mockito.doReturn(List.of(KEY)).when(cache).hotKeys(Duration.ofHours(1));
+        Mockito.doReturn(true).when(cache).isRefreshDue(KEY);
+        Mockito.doReturn(HolidayDataset.of(KEY, new CountryHoliday[]{
+                new CountryHoliday("2025-01-01", "Holiday 1"),
+                new CountryHoliday("2025-01-06", "Holiday 2"),
+                new CountryHoliday("2025-04-21", "Holiday 3"),
+                new CountryHoliday("2025-12-25", "Holiday 4")})).when(cache).getIfPresent(KEY);
+
+        /// early in the year: refresh and prefetch the previous year only
+        scheduler.refreshAndPrefetch(LocalDate.of(2025, 2, 1));
+        Mockito.verify(cache).refresh(KEY);
+        Mockito.verify(cache).prefetch(new HolidayKey("AT", 2024));
+        Mockito.verify(cache, Mockito.never()).prefetch(new HolidayKey("AT", 2026));
+
+        /// mid-year: 3 holidays have passed, nothing is prefetched
+        Mockito.clearInvocations(cache);
+        scheduler.refreshAndPrefetch(LocalDate.of(2025, 6, 1));
+        Mockito.verify(cache, Mockito.never()).prefetch(Mockito.any());
+
+        /// from December 15: prefetch the next year
+        Mockito.clearInvocations(cache);
+        scheduler.refreshAndPrefetch(LocalDate.of(2025, 12, 15));
+        Mockito.verify(cache).prefetch(new HolidayKey("AT", 2026));
+        Mockito.verify(cache, Mockito.never()).prefetch(new HolidayKey("AT", 2024));
+    }
+}
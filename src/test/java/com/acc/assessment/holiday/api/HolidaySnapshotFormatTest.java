@@ -0,0 +1,114 @@
+package com.acc.assessment.holiday.api;
+
+import com.acc.assessment.holiday.api.model.CountryHoliday;
+import com.acc.assessment.holiday.api.model.HolidayDataset;
+import com.acc.assessment.holiday.api.model.HolidayKey;
+import com.acc.assessment.holiday.api.store.HolidaySnapshotFormat;
+import com.acc.assessment.holiday.api.store.HolidaySnapshotStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HolidaySnapshotFormatTest {
+
+    /**
+     * Unit test for the snapshot file format.
+     * This test verifies that datasets read back from a written snapshot are identical, including null and empty fields
+     * and datasets without holidays, and that files of another format are rejected.
+     */
+    @Test
+    public void writeReadRoundTripTest(@TempDir Path directory) throws IOException {
+
+        /// Initial setup
+        Path file = directory.resolve("holidays.snapshot");
+        HolidayDataset full = HolidayDataset.of(new HolidayKey("AT", 2025), new CountryHoliday[]{
+                new CountryHoliday("2025-01-01", "Neujahr", "New Year's Day", "AT", true, true, null, 1967, new String[]{"Public"}),
+                new CountryHoliday("2025-05-01", "", "Labour Day", "AT", false, null, new String[0], null, new String[]{"Public", "Bank"}),
+                new CountryHoliday("2025-11-15", null, null, "AT", null, false, new String[]{"AT-3", "AT-9"}, null, new String[0])});
+        HolidayDataset empty = HolidayDataset.of(new HolidayKey("NL", 2025), new CountryHoliday[0]);
+
+        /// method calls
+        HolidaySnapshotFormat.write(file, List.of(full, empty));
+        List<HolidayDataset> actualResult = HolidaySnapshotFormat.read(file);
+
+        /// verify if the datasets match field by field
+        assertEquals(2, actualResult.size());
+        assertDatasetEquals(full, actualResult.get(0));
+        assertDatasetEquals(empty, actualResult.get(1));
+
+        /// verify if other files are rejected
+        Path other = Files.writeString(directory.resolve("other.snapshot"), "not a snapshot");
+        assertThrows(IOException.class, () -> HolidaySnapshotFormat.read(other));
+    }
+
+    /**
+     * Unit test for reading damaged snapshot files.
+     * This test verifies that truncated files and files with impossible counts are rejected before anything is allocated
+     * for them, and that the snapshot store skips such a file and starts empty.
+     */
+    @Test
+    public void corruptSnapshotTest(@TempDir Path directory) throws IOException {
+
+        /// Initial setup
+        Path file = directory.resolve("holidays.snapshot");
+        HolidaySnapshotFormat.write(file, List.of(HolidayDataset.of(new HolidayKey("AT", 2025), new CountryHoliday[]{
+                new CountryHoliday("2025-01-01", "Neujahr"),
+                new CountryHoliday("2025-12-25", "Christtag")})));
+        byte[] bytes = Files.readAllBytes(file);
+
+        /// verify if a truncated file is rejected
+        Path truncated = Files.write(directory.resolve("truncated.snapshot"), Arrays.copyOf(bytes, bytes.length - 10));
+        assertThrows(IOException.class, () -> HolidaySnapshotFormat.read(truncated));
+
+        /// verify if impossible dataset and holiday counts are rejected; the holiday count follows magic, dataset count, "AT" and year
+        ByteBuffer datasetCount = ByteBuffer.wrap(bytes.clone()).putInt(4, Integer.MAX_VALUE);
+        Path hugeDatasetCount = Files.write(directory.resolve("datasets.snapshot"), datasetCount.array());
+        assertThrows(IOException.class, () -> HolidaySnapshotFormat.read(hugeDatasetCount));
+        ByteBuffer holidayCount = ByteBuffer.wrap(bytes.clone()).putInt(18, Integer.MAX_VALUE);
+        Path hugeHolidayCount = Files.write(directory.resolve("holidays-count.snapshot"), holidayCount.array());
+        assertThrows(IOException.class, () -> HolidaySnapshotFormat.read(hugeHolidayCount));
+        ByteBuffer negativeCount = ByteBuffer.wrap(bytes.clone()).putInt(18, -1);
+        Path negativeHolidayCount = Files.write(directory.resolve("negative-count.snapshot"), negativeCount.array());
+        assertThrows(IOException.class, () -> HolidaySnapshotFormat.read(negativeHolidayCount));
+
+        /// verify if the store skips the damaged file
+        HolidaySnapshotStore store = new HolidaySnapshotStore();
+        ReflectionTestUtils.setField(store, "path", hugeHolidayCount.toString());
+        store.load();
+        assertTrue(store.getAll().isEmpty());
+    }
+
+    /**
+     * Asserts that two datasets have the same key and holidays.
+     *
+     * @param expected The expected dataset
+     * @param actual   The actual dataset
+     */
+    private void assertDatasetEquals(HolidayDataset expected, HolidayDataset actual) {
+        assertEquals(expected.key(), actual.key());
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            CountryHoliday expectedHoliday = expected.toCountryHoliday(i);
+            CountryHoliday actualHoliday = actual.toCountryHoliday(i);
+            assertEquals(expectedHoliday.date(), actualHoliday.date());
+            assertEquals(expectedHoliday.localName(), actualHoliday.localName());
+            assertEquals(expectedHoliday.name(), actualHoliday.name());
+            assertEquals(expectedHoliday.countryCode(), actualHoliday.countryCode());
+            assertEquals(expectedHoliday.fixed(), actualHoliday.fixed());
+            assertEquals(expectedHoliday.global(), actualHoliday.global());
+            assertArrayEquals(expectedHoliday.counties(), actualHoliday.counties());
+            assertEquals(expectedHoliday.launchYear(), actualHoliday.launchYear());
+            assertArrayEquals(expectedHoliday.types(), actualHoliday.types());
+        }
+        assertEquals(expected.version(), actual.version());
+    }
+}
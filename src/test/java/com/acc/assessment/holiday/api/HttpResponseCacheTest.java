@@ -0,0 +1,154 @@
+package com.acc.assessment.holiday.api;
+
+import com.acc.assessment.holiday.api.cache.CountryHolidaysCache;
+import com.acc.assessment.holiday.api.cache.HttpResponseCache;
+import com.acc.assessment.holiday.api.client.ExternalAPIClientConfig;
+import com.acc.assessment.holiday.api.model.CountryHoliday;
+import com.acc.assessment.holiday.api.model.HolidayDataset;
+import com.acc.assessment.holiday.api.model.HolidayKey;
+import com.acc.assessment.holiday.api.service.CountryHolidaysService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class HttpResponseCacheTest {
+
+    @Autowired
+    HttpResponseCache httpResponseCache;
+
+    @Autowired
+    CountryHolidaysService service;
+
+    @Autowired
+    CountryHolidaysCache cache;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    private ExternalAPIClientConfig clientConfig;
+
+    private ExternalAPIClientConfig mockConfig;
+
+    @BeforeEach
+    public void mockClientConfig() {
+        clientConfig = (ExternalAPIClientConfig) ReflectionTestUtils.getField(cache, "clientConfig");
+        mockConfig = Mockito.mock(ExternalAPIClientConfig.class);
+        ReflectionTestUtils.setField(cache, "clientConfig", mockConfig);
+        cache.invalidateAll();
+    }
+
+    @AfterEach
+    public void restoreClientConfig() {
+        ReflectionTestUtils.setField(cache, "clientConfig", clientConfig);
+        cache.invalidateAll();
+    }
+
+    /**
+     * Unit test for HttpResponseCache.respond.
+     * This test verifies that repeat requests reuse the serialized body and ETag, that a changed dataset changes the ETag,
+     * and that checking a cached response never fetches an evicted dataset.
+     */
+    @Test
+    public void respondTest() {
+
+        /// Initial setup
+        HolidayKey key = new HolidayKey("AT", 2020);
+        Mockito.doReturn(Mono.just(HolidayDataset.of(key, new CountryHoliday[]{new CountryHoliday("2020-01-01", "Neujahr")})))
+                .when(mockConfig).fetchHolidayDataset("AT", 2020);
+        String requestKey = HttpResponseCache.requestKey("countryHolidays", "AT", 2020);
+        AtomicInteger serviceCalls = new AtomicInteger();
+
+        /// method calls
+        ResponseEntity<List<CountryHoliday>> first = httpResponseCache.respond(requestKey, () -> {
+            serviceCalls.incrementAndGet();
+            return service.getCountryHolidaysReactive("AT", 2020);
+        }).block();
+        ResponseEntity<List<CountryHoliday>> second = httpResponseCache.respond(requestKey, () -> {
+            serviceCalls.incrementAndGet();
+            return service.getCountryHolidaysReactive("AT", 2020);
+        }).block();
+
+        /// verify if the evicted dataset makes the response stale without being fetched again
+        cache.invalidateAll();
+        httpResponseCache.respond(requestKey, () -> Mono.just(List.<CountryHoliday>of())).block();
+        Mockito.verify(mockConfig, Mockito.times(1)).fetchHolidayDataset("AT", 2020);
+
+        Mockito.doReturn(Mono.just(HolidayDataset.of(key, new CountryHoliday[]{new CountryHoliday("2020-01-02", "Neujahr")})))
+                .when(mockConfig).fetchHolidayDataset("AT", 2020);
+        ResponseEntity<List<CountryHoliday>> changed = httpResponseCache.respond(requestKey, () -> service.getCountryHolidaysReactive("AT", 2020)).block();
+
+        /// verify if results match
+        assertEquals(1, serviceCalls.get());
+        assertSame(first.getBody(), second.getBody());
+        assertEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+        assertNotEquals(first.getHeaders().getETag(), changed.getHeaders().getETag());
+        assertTrue(first.getHeaders().getCacheControl().contains("max-age=31536000"));
+    }
+
+    /**
+     * Integration test for conditional requests.
+     * This test verifies that an endpoint serves the cached JSON with an ETag and answers a matching If-None-Match with 304.
+     */
+    @Test
+    public void notModifiedTest() throws Exception {
+
+        /// Initial setup
+        Mockito.doReturn(Mono.just(HolidayDataset.of(new HolidayKey("AT", 2020), new CountryHoliday[]{
+                        new CountryHoliday("2020-01-01", "Neujahr"),
+                        new CountryHoliday("2020-12-25", "Christtag")})))
+                .when(mockConfig).fetchHolidayDataset("AT", 2020);
+
+        /// method call
+        String etag = mockMvc.perform(get("/country/holidays/next").param("countryCode", "AT").param("count", "1").param("date", "2020-06-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].date").value("2020-12-25"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        /// verify if a matching conditional request is answered without a body
+        mockMvc.perform(get("/country/holidays/next").param("countryCode", "AT").param("count", "1").param("date", "2020-06-01")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    /**
+     * Integration test for the API documentation of cached endpoints.
+     * This test verifies that the documented response schema is the result type rather than raw bytes.
+     * Skipped when the build leaves springdoc out.
+     */
+    @Test
+    public void apiDocsTest() throws Exception {
+        assumeTrue(ClassUtils.isPresent("org.springdoc.core.configuration.SpringDocConfiguration", null));
+
+        /// verify if the response schema references the holiday model
+        mockMvc.perform(get("/holiday-api-docs"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.paths['/country/holidays/next'].get.responses['200'].content['*/*'].schema.items['$ref']")
+                        .value(containsString("CountryHoliday")));
+    }
+}
@@ -0,0 +1,106 @@
+package com.acc.assessment.holiday.api;
+
+import com.acc.assessment.holiday.api.cache.CountryHolidaysCache;
+import com.acc.assessment.holiday.api.client.ExternalAPIClientConfig;
+import com.acc.assessment.holiday.api.model.CountryHoliday;
+import com.acc.assessment.holiday.api.model.HolidayDataset;
+import com.acc.assessment.holiday.api.model.HolidayKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Year;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.main.web-application-type=reactive", "country.holidays.reactive.enabled=true"})
+@AutoConfigureWebTestClient
+public class ReactiveCountryHolidaysControllerTest {
+
+    private final int currentYear = Year.now().getValue();
+
+    @Autowired
+    WebTestClient webTestClient;
+
+    @Autowired
+    CountryHolidaysCache cache;
+
+    private ExternalAPIClientConfig clientConfig;
+
+    private ExternalAPIClientConfig mockConfig;
+
+    @BeforeEach
+    public void mockClientConfig() {
+        clientConfig = (ExternalAPIClientConfig) ReflectionTestUtils.getField(cache, "clientConfig");
+        mockConfig = Mockito.mock(ExternalAPIClientConfig.class);
+        ReflectionTestUtils.setField(cache, "clientConfig", mockConfig);
+        cache.invalidateAll();
+        Mockito.doReturn(Mono.just(HolidayDataset.of(new HolidayKey("AT", currentYear), new CountryHoliday[]{
+                        new CountryHoliday(currentYear + "-01-01", "New Year's Day"),
+                        new CountryHoliday(currentYear + "-01-06", "Epiphany"),
+                        new CountryHoliday(currentYear + "-12-25", "Christmas Day")})))
+                .when(mockConfig).fetchHolidayDataset("AT", currentYear);
+    }
+
+    @AfterEach
+    public void restoreClientConfig() {
+        ReflectionTestUtils.setField(cache, "clientConfig", clientConfig);
+        cache.invalidateAll();
+    }
+
+    /**
+     * Integration test for the next holidays endpoint of the reactive controller.
+     * This test verifies that the reactive stack serves the holidays with an ETag and answers a matching conditional request with 304.
+     */
+    @Test
+    public void nextHolidaysTest() {
+
+        /// method call
+        String etag = webTestClient.get().uri("/country/holidays/next?countryCode=AT&count=2&date={date}", currentYear + "-01-02")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$[*].date").isEqualTo(List.of(currentYear + "-01-06", currentYear + "-12-25"))
+                .returnResult().getResponseHeaders().getETag();
+
+        /// verify if a conditional request is answered without a body
+        webTestClient.get().uri("/country/holidays/next?countryCode=AT&count=2&date={date}", currentYear + "-01-02")
+                .header("If-None-Match", etag)
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+
+    /**
+     * Integration test for the validation and the export endpoint of the reactive controller.
+     * This test verifies that invalid input is rejected with 400 and that the export is streamed as NDJSON.
+     */
+    @Test
+    public void validationAndExportTest() {
+
+        /// verify if invalid input is rejected
+        webTestClient.get().uri("/country/holidays/next?countryCode=AT&count=0")
+                .exchange()
+                .expectStatus().isBadRequest();
+        webTestClient.get().uri("/countries/holidays/export?countryCodes=AT&fromYear={from}&toYear={to}", currentYear, currentYear - 1)
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        /// verify if each holiday of the export is on its own line
+        List<String> lines = webTestClient.get().uri("/countries/holidays/export?countryCodes=AT&fromYear={from}&toYear={to}", currentYear, currentYear)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class).returnResult().getResponseBody().lines().toList();
+        assertEquals(3, lines.size());
+    }
+}
@@ -0,0 +1,30 @@
+package com.acc.assessment.holiday.api;
+
+import com.acc.assessment.holiday.api.cache.RefreshRateLimiter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RefreshRateLimiterTest {
+
+    /**
+     * Unit test for the refresh token bucket.
+     * This test verifies that a full bucket allows a burst, rejects further permits and refills over time.
+     */
+    @Test
+    public void burstAndRefillTest() throws InterruptedException {
+
+        /// Initial setup
+        RefreshRateLimiter limiter = new RefreshRateLimiter(20, 2);
+
+        /// the burst is allowed, then permits are rejected
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+
+        /// a permit is available again after 1 / rate seconds
+        Thread.sleep(60);
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+    }
+}
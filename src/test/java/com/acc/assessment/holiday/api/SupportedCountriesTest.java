@@ -0,0 +1,61 @@
+package com.acc.assessment.holiday.api;
+
+import com.acc.assessment.holiday.api.validation.SupportedCountries;
+import com.acc.assessment.holiday.api.validation.Validation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SupportedCountriesTest {
+
+    /**
+     * Unit test for the country code format check.
+     * This test verifies that only codes of exactly two ASCII letters are accepted, in either case.
+     */
+    @Test
+    public void isCountryCodeWellFormedTest() {
+
+        ///  verify if well-formed codes are accepted
+        assertTrue(Validation.isCountryCodeWellFormed("NL"));
+        assertTrue(Validation.isCountryCodeWellFormed("nl"));
+
+        ///  verify if malformed codes are rejected
+        assertFalse(Validation.isCountryCodeWellFormed(null));
+        assertFalse(Validation.isCountryCodeWellFormed(""));
+        assertFalse(Validation.isCountryCodeWellFormed("N"));
+        assertFalse(Validation.isCountryCodeWellFormed("NLD"));
+        assertFalse(Validation.isCountryCodeWellFormed("N1"));
+        assertFalse(Validation.isCountryCodeWellFormed("ÄT"));
+    }
+
+    /**
+     * Unit test for the supported country check.
+     * This test verifies that countries of the bundled list are supported ignoring case, that other countries are not,
+     * and that every country is accepted while validation is disabled.
+     */
+    @Test
+    public void isSupportedTest() {
+
+        /// Initial setup
+        SupportedCountries supportedCountries = new SupportedCountries();
+        ReflectionTestUtils.setField(supportedCountries, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(supportedCountries, "enabled", true);
+
+        /// before a list is loaded every country is accepted
+        assertTrue(supportedCountries.isSupported("SS"));
+
+        /// method call
+        supportedCountries.loadBundled();
+
+        ///  verify if bundled countries are supported
+        assertTrue(supportedCountries.isSupported("NL"));
+        assertTrue(supportedCountries.isSupported("us"));
+        assertFalse(supportedCountries.isSupported("SS"));
+
+        ///  verify if validation can be disabled
+        ReflectionTestUtils.setField(supportedCountries, "enabled", false);
+        assertTrue(supportedCountries.isSupported("SS"));
+    }
+}
@@ -0,0 +1,46 @@
+package com.acc.assessment.holiday.api;
+
+import com.acc.assessment.holiday.api.client.UpstreamCircuitBreaker;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UpstreamCircuitBreakerTest {
+
+    /**
+     * Unit test for the circuit breaker state transitions.
+     * This test verifies that the breaker opens at the failure threshold, allows a single trial call after the open
+     * duration and closes again when the trial succeeds.
+     */
+    @Test
+    public void stateTransitionTest() throws InterruptedException {
+
+        /// Initial setup
+        UpstreamCircuitBreaker breaker = new UpstreamCircuitBreaker(50, 4, 4, Duration.ofMillis(50));
+
+        /// below minimum calls the breaker stays closed
+        for (int i = 0; i < 3; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onFailure();
+        }
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, breaker.getState());
+
+        /// reaching the threshold opens it and calls fail fast
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess();
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure();
+        assertEquals(UpstreamCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+
+        /// after the open duration a single trial call is allowed
+        Thread.sleep(60);
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        breaker.onSuccess();
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+}
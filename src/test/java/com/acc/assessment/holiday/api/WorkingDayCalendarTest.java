@@ -0,0 +1,46 @@
+package com.acc.assessment.holiday.api;
+
+import com.acc.assessment.holiday.api.model.CountryHoliday;
+import com.acc.assessment.holiday.api.model.HolidayDataset;
+import com.acc.assessment.holiday.api.model.HolidayKey;
+import com.acc.assessment.holiday.api.model.WorkingDayCalendar;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class WorkingDayCalendarTest {
+
+    /**
+     * Unit test for WorkingDayCalendar.combine.
+     * This test verifies that weekends and the public holidays of every country are skipped, and that
+     * observances do not affect working days.
+     */
+    @Test
+    public void combineTest() {
+
+        /// Initial setup
+        HolidayDataset nl = HolidayDataset.of(new HolidayKey("NL", 2025), new CountryHoliday[]{
+                new CountryHoliday("2025-01-01", "Nieuwjaarsdag", "New Year's Day", "NL", true, true, null, null, new String[]{"Public"}),
+                new CountryHoliday("2025-01-08", "Dag", "Observance", "NL", true, true, null, null, new String[]{"Observance"})});
+        HolidayDataset at = HolidayDataset.of(new HolidayKey("AT", 2025), new CountryHoliday[]{
+                new CountryHoliday("2025-01-01", "Neujahr", "New Year's Day", "AT", true, true, null, null, new String[]{"Public"}),
+                new CountryHoliday("2025-01-06", "Heilige Drei Könige", "Epiphany", "AT", true, true, null, null, new String[]{"Public"})});
+
+        /// method call
+        WorkingDayCalendar nlCalendar = nl.workingDayCalendar();
+        WorkingDayCalendar combined = WorkingDayCalendar.combine(List.of(nlCalendar, at.workingDayCalendar()));
+
+        /// verify if results match
+        assertSame(nlCalendar, WorkingDayCalendar.combine(List.of(nlCalendar)));
+        assertEquals(7, nlCalendar.workingDaysThrough(10));
+        assertEquals(260, nlCalendar.workingDays());
+        assertEquals(6, combined.workingDaysThrough(10));
+        assertEquals(259, combined.workingDays());
+        assertEquals(2, combined.nthWorkingDay(1));
+        assertEquals(7, combined.nthWorkingDay(3));
+        assertEquals(365, combined.nthWorkingDay(259));
+    }
+}
@@ -0,0 +1,101 @@
+package com.acc.assessment.holiday.api.fixture;
+
+import com.acc.assessment.holiday.api.model.CountryHoliday;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Replays recorded external API responses stored as {@code /fixtures/<year>/<countryCode>.json} on the test classpath.
+ * Any country code and year can be requested: unknown countries are mapped onto one of the recorded countries and
+ * other years reuse the closest recorded year with shifted dates, so load can be generated for arbitrary inputs.
+ */
+public final class HolidayFixtures {
+
+    public static final List<String> FIXTURE_COUNTRY_CODES = List.of("AT", "BE", "DE", "NL", "US");
+
+    public static final int FIRST_FIXTURE_YEAR = 2024;
+
+    public static final int LAST_FIXTURE_YEAR = 2025;
+
+    /**
+     * Country codes supported by the external API, used to build realistic multi-country requests.
+     */
+    public static final List<String> COUNTRY_CODES = List.of(
+            "AD", "AL", "AM", "AR", "AT", "AU", "AX", "BA", "BB", "BE", "BG", "BJ", "BO", "BR", "BS", "BW", "BY", "BZ",
+            "CA", "CH", "CL", "CN", "CO", "CR", "CU", "CY", "CZ", "DE", "DK", "DO", "EC", "EE", "EG", "ES", "FI", "FO",
+            "FR", "GA", "GB", "GD", "GE", "GG", "GI", "GL", "GM", "GR", "GT", "GY", "HK", "HN", "HR", "HT", "HU", "ID",
+            "IE", "IM", "IS", "IT", "JE", "JM", "JP", "KR", "KZ", "LI", "LS", "LT", "LU", "LV", "MA", "MC", "MD", "ME",
+            "MG", "MK", "MN", "MS", "MT", "MX", "MZ", "NA", "NE", "NG", "NI", "NL", "NO", "NZ", "PA", "PE", "PG", "PH",
+            "PL", "PR", "PT", "PY", "RO", "RS", "RU", "SE", "SG", "SI", "SJ", "SK", "SM", "SR", "SV", "TN", "TR", "UA",
+            "US", "UY", "VA", "VE", "VN", "ZA", "ZW");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, String> recorded = new HashMap<>();
+
+    private HolidayFixtures() {
+    }
+
+    /**
+     * Loads all recorded responses from the classpath.
+     *
+     * @return The fixtures
+     */
+    public static HolidayFixtures load() {
+        HolidayFixtures fixtures = new HolidayFixtures();
+        for (int year = FIRST_FIXTURE_YEAR; year <= LAST_FIXTURE_YEAR; year++) {
+            for (String countryCode : FIXTURE_COUNTRY_CODES) {
+                String resource = "/fixtures/" + year + "/" + countryCode + ".json";
+                try (InputStream in = HolidayFixtures.class.getResourceAsStream(resource)) {
+                    if (in == null) throw new IllegalStateException("Missing fixture " + resource);
+                    fixtures.recorded.put(year + "/" + countryCode, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+        return fixtures;
+    }
+
+    /**
+     * Returns the external API response body for a country and year.
+     *
+     * @param countryCode The country code (e.g., "US")
+     * @param year        The year (e.g., 2025)
+     * @return The JSON array of holidays
+     */
+    public String json(String countryCode, int year) {
+        String code = countryCode.toUpperCase(Locale.ROOT);
+        String fixtureCode = FIXTURE_COUNTRY_CODES.contains(code) ? code
+                : FIXTURE_COUNTRY_CODES.get(Math.floorMod(code.hashCode(), FIXTURE_COUNTRY_CODES.size()));
+        int fixtureYear = Math.max(FIRST_FIXTURE_YEAR, Math.min(LAST_FIXTURE_YEAR, year));
+        String json = recorded.get(fixtureYear + "/" + fixtureCode);
+        if (fixtureYear != year) json = json.replace("\"date\":\"" + fixtureYear + "-", "\"date\":\"" + year + "-");
+        if (!fixtureCode.equals(code)) json = json.replace("\"countryCode\":\"" + fixtureCode + "\"", "\"countryCode\":\"" + code + "\"");
+        return json;
+    }
+
+    /**
+     * Returns the holidays for a country and year, parsed from {@link #json(String, int)}.
+     *
+     * @param countryCode The country code (e.g., "US")
+     * @param year        The year (e.g., 2025)
+     * @return The holidays
+     */
+    public CountryHoliday[] holidays(String countryCode, int year) {
+        try {
+            return objectMapper.readValue(json(countryCode, year), CountryHoliday[].class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}